@@ -0,0 +1,68 @@
+package com.savdev.commons.config.benchmarks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.savdev.commons.config.PropertyKey;
+
+/**
+ * A method per supported return type, bound to {@link TestFiles#TEST_CONFIG}.
+ */
+public interface BenchmarkConfig {
+
+  String STRING_KEY = "benchmark.string";
+  String INT_KEY = "benchmark.int";
+  String LONG_KEY = "benchmark.long";
+  String BOOLEAN_KEY = "benchmark.boolean";
+  String BYTE_SIZE_KEY = "benchmark.byte.size";
+  String DURATION_KEY = "benchmark.duration";
+  String LIST_KEY = "benchmark.list";
+  String MAP_KEY = "benchmark.map";
+  String MAP_OF_LISTS_KEY = "benchmark.map.of.lists";
+  String MAP_OF_MAPS_KEY = "benchmark.map.of.maps";
+  String MAP_OF_MAPS_OF_LISTS_KEY = "benchmark.map.of.maps.of.lists";
+
+  @PropertyKey(STRING_KEY)
+  String string();
+
+  @PropertyKey(STRING_KEY)
+  Optional<String> optionalString();
+
+  @PropertyKey(INT_KEY)
+  int intPrimitive();
+
+  @PropertyKey(INT_KEY)
+  Integer integer();
+
+  @PropertyKey(value = INT_KEY, optionalClass = Integer.class)
+  Optional<Integer> optionalInteger();
+
+  @PropertyKey(LONG_KEY)
+  long longPrimitive();
+
+  @PropertyKey(BOOLEAN_KEY)
+  boolean booleanPrimitive();
+
+  @PropertyKey(value = BYTE_SIZE_KEY, byteSize = true)
+  long byteSize();
+
+  @PropertyKey(DURATION_KEY)
+  Duration duration();
+
+  @PropertyKey(LIST_KEY)
+  List<String> list();
+
+  @PropertyKey(MAP_KEY)
+  Map<String, String> map();
+
+  @PropertyKey(MAP_OF_LISTS_KEY)
+  Map<String, List<String>> mapOfLists();
+
+  @PropertyKey(MAP_OF_MAPS_KEY)
+  Map<String, Map<String, String>> mapOfMaps();
+
+  @PropertyKey(MAP_OF_MAPS_OF_LISTS_KEY)
+  Map<String, Map<String, List<String>>> mapOfMapsOfLists();
+}
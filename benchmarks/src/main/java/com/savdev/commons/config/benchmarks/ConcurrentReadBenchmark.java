@@ -0,0 +1,72 @@
+package com.savdev.commons.config.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.savdev.commons.config.Configs;
+import com.savdev.commons.config.PropertyTable;
+
+/**
+ * Throughput of reads of the same keys from all the available threads.
+ * Compare with a single thread run, {@code -t 1}, to see how reads scale.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class ConcurrentReadBenchmark {
+
+  static final String KEY = BenchmarkConfig.STRING_KEY;
+
+  Properties properties;
+
+  Map<String, String> table;
+
+  BenchmarkConfig config;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setUp() throws IOException {
+    byte[] file = TestFiles.read(TestFiles.TEST_CONFIG);
+    properties = new Properties();
+    properties.load(new ByteArrayInputStream(file));
+    table = PropertyTable.copyOf((Map) properties);
+    config = Configs.fileConfig(new ByteArrayInputStream(file)).proxy(BenchmarkConfig.class);
+  }
+
+  /**
+   * The previous backing store, a synchronized {@link java.util.Hashtable}.
+   */
+  @Benchmark
+  public String properties() {
+    return properties.getProperty(KEY);
+  }
+
+  @Benchmark
+  public String propertyTable() {
+    return table.get(KEY);
+  }
+
+  @Benchmark
+  public String proxy() {
+    return config.string();
+  }
+}
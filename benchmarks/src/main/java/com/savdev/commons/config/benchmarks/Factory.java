@@ -0,0 +1,27 @@
+package com.savdev.commons.config.benchmarks;
+
+import java.io.InputStream;
+import java.util.function.Function;
+
+import com.savdev.commons.config.ConfigFactory;
+import com.savdev.commons.config.Configs;
+
+/**
+ * Config factories, compared by benchmarks.
+ */
+public enum Factory {
+
+  FILE(Configs::fileConfig),
+  IMMUTABLE(Configs::immutableFileConfig),
+  GENERATED(Configs::generatedFileConfig);
+
+  private final Function<InputStream, ConfigFactory> factory;
+
+  Factory(Function<InputStream, ConfigFactory> factory) {
+    this.factory = factory;
+  }
+
+  ConfigFactory create(final InputStream inputStream) {
+    return factory.apply(inputStream);
+  }
+}
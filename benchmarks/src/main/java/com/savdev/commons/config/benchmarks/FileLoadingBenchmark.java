@@ -0,0 +1,54 @@
+package com.savdev.commons.config.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Loading of generated files with many keys and a large map value,
+ * and creation of a proxy that binds a few of the keys.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FileLoadingBenchmark {
+
+  @Param({"FILE", "IMMUTABLE", "GENERATED"})
+  Factory factory;
+
+  @Param({"1000", "50000"})
+  int keys;
+
+  @Param({"100", "10000"})
+  int mapKeys;
+
+  byte[] file;
+
+  @Setup
+  public void setUp() {
+    file = PropertiesGenerator.file(keys,
+      LargeConfig.MAP_OF_MAPS_OF_LISTS_KEY, PropertiesGenerator.mapOfMapsOfLists(mapKeys, 5, 4));
+  }
+
+  @Benchmark
+  public LargeConfig load() {
+    LargeConfig config = factory.create(new ByteArrayInputStream(file))
+                                .proxy(LargeConfig.class);
+    config.mapOfMapsOfLists();
+    return config;
+  }
+}
@@ -0,0 +1,114 @@
+package com.savdev.commons.config.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latency of a config read for each supported return type.
+ * Run with {@code -prof gc} to see allocations per read.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GetterBenchmark {
+
+  @Param({"FILE", "IMMUTABLE", "GENERATED"})
+  Factory factory;
+
+  BenchmarkConfig config;
+
+  @Setup
+  public void setUp() {
+    config = factory.create(new ByteArrayInputStream(TestFiles.read(TestFiles.TEST_CONFIG)))
+                    .proxy(BenchmarkConfig.class);
+  }
+
+  @Benchmark
+  public String string() {
+    return config.string();
+  }
+
+  @Benchmark
+  public Optional<String> optionalString() {
+    return config.optionalString();
+  }
+
+  @Benchmark
+  public int intPrimitive() {
+    return config.intPrimitive();
+  }
+
+  @Benchmark
+  public Integer integer() {
+    return config.integer();
+  }
+
+  @Benchmark
+  public Optional<Integer> optionalInteger() {
+    return config.optionalInteger();
+  }
+
+  @Benchmark
+  public long longPrimitive() {
+    return config.longPrimitive();
+  }
+
+  @Benchmark
+  public boolean booleanPrimitive() {
+    return config.booleanPrimitive();
+  }
+
+  @Benchmark
+  public long byteSize() {
+    return config.byteSize();
+  }
+
+  @Benchmark
+  public Duration duration() {
+    return config.duration();
+  }
+
+  @Benchmark
+  public List<String> list() {
+    return config.list();
+  }
+
+  @Benchmark
+  public Map<String, String> map() {
+    return config.map();
+  }
+
+  @Benchmark
+  public Map<String, List<String>> mapOfLists() {
+    return config.mapOfLists();
+  }
+
+  @Benchmark
+  public Map<String, Map<String, String>> mapOfMaps() {
+    return config.mapOfMaps();
+  }
+
+  @Benchmark
+  public Map<String, Map<String, List<String>>> mapOfMapsOfLists() {
+    return config.mapOfMapsOfLists();
+  }
+}
@@ -0,0 +1,21 @@
+package com.savdev.commons.config.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+
+import com.savdev.commons.config.PropertyKey;
+
+/**
+ * Binds a few keys of a large generated file.
+ */
+public interface LargeConfig {
+
+  String FIRST_KEY = PropertiesGenerator.KEY_PREFIX + 0;
+  String MAP_OF_MAPS_OF_LISTS_KEY = "large.map.of.maps.of.lists";
+
+  @PropertyKey(FIRST_KEY)
+  String first();
+
+  @PropertyKey(MAP_OF_MAPS_OF_LISTS_KEY)
+  Map<String, Map<String, List<String>>> mapOfMapsOfLists();
+}
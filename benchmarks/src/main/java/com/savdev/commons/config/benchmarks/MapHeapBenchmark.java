@@ -0,0 +1,109 @@
+package com.savdev.commons.config.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.savdev.commons.config.PropertyKey;
+import com.savdev.commons.config.PropertyValues;
+
+/**
+ * Heap, retained by a parsed large map of maps of lists value, like a routing table.
+ * The {@code retainedBytes} counter is the used heap after a full GC, while the value is referenced,
+ * minus the used heap after a full GC before parsing. The time score includes the GCs and is not relevant. {@link RegexSplitParsing} results,
+ * made of {@link java.util.HashMap}s and {@link java.util.Arrays#asList} lists, are the baseline.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g", "-XX:+UseSerialGC"})
+@State(Scope.Benchmark)
+public class MapHeapBenchmark {
+
+  @Param({"10000"})
+  int keys;
+
+  String value;
+
+  @Setup
+  public void setUp() {
+    value = PropertiesGenerator.mapOfMapsOfLists(keys, 5, 4);
+  }
+
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class Heap {
+
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    public long retainedBytes;
+
+    /**
+     * Keeps the parsed value reachable, while the heap is measured.
+     */
+    Object value;
+
+    long before() {
+      value = null;
+      return used();
+    }
+
+    void retained(final long usedBefore, final Object value) {
+      this.value = value;
+      retainedBytes = used() - usedBefore;
+    }
+
+    /**
+     * @return used heap after full GCs, until it stops decreasing,
+     *         one GC is not always enough to collect all the garbage
+     */
+    private static long used() {
+      long used = Long.MAX_VALUE;
+      for (int gc = 0; gc < 20; gc++) {
+        System.gc();
+        long current = MEMORY.getHeapMemoryUsage().getUsed();
+        if (gc >= 3 && current >= used) {
+          break;
+        }
+        used = Math.min(used, current);
+      }
+      return used;
+    }
+  }
+
+  @Benchmark
+  public void regexSplit(Heap heap) {
+    long usedBefore = heap.before();
+    heap.retained(usedBefore, RegexSplitParsing.mapOfMapsOfLists(value,
+      PropertyKey.ITEMS_SEPARATOR,
+      PropertyKey.KEY_VALUE_SEPARATOR,
+      PropertyKey.MAP_LIST_ITEMS_SEPARATOR,
+      PropertyKey.MAP_OF_MAPS_ITEMS_SEPARATOR,
+      PropertyKey.MAP_OF_MAPS_OF_LISTS_ITEMS_SEPARATOR));
+  }
+
+  @Benchmark
+  public void tokenizer(Heap heap) {
+    long usedBefore = heap.before();
+    heap.retained(usedBefore, PropertyValues.mapOfMapsOfLists(value,
+      PropertyKey.ITEMS_SEPARATOR,
+      PropertyKey.KEY_VALUE_SEPARATOR,
+      PropertyKey.MAP_LIST_ITEMS_SEPARATOR,
+      PropertyKey.MAP_OF_MAPS_ITEMS_SEPARATOR,
+      PropertyKey.MAP_OF_MAPS_OF_LISTS_ITEMS_SEPARATOR));
+  }
+}
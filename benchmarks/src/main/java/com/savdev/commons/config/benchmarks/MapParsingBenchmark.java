@@ -0,0 +1,62 @@
+package com.savdev.commons.config.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.savdev.commons.config.PropertyKey;
+import com.savdev.commons.config.PropertyValues;
+
+/**
+ * Parsing of a large map of maps of lists value, with the default separators.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapParsingBenchmark {
+
+  @Param({"100", "10000"})
+  int keys;
+
+  String value;
+
+  @Setup
+  public void setUp() {
+    value = PropertiesGenerator.mapOfMapsOfLists(keys, 5, 4);
+  }
+
+  @Benchmark
+  public Map<String, Map<String, List<String>>> regexSplit() {
+    return RegexSplitParsing.mapOfMapsOfLists(value,
+      PropertyKey.ITEMS_SEPARATOR,
+      PropertyKey.KEY_VALUE_SEPARATOR,
+      PropertyKey.MAP_LIST_ITEMS_SEPARATOR,
+      PropertyKey.MAP_OF_MAPS_ITEMS_SEPARATOR,
+      PropertyKey.MAP_OF_MAPS_OF_LISTS_ITEMS_SEPARATOR);
+  }
+
+  @Benchmark
+  public Map<String, Map<String, List<String>>> tokenizer() {
+    return PropertyValues.mapOfMapsOfLists(value,
+      PropertyKey.ITEMS_SEPARATOR,
+      PropertyKey.KEY_VALUE_SEPARATOR,
+      PropertyKey.MAP_LIST_ITEMS_SEPARATOR,
+      PropertyKey.MAP_OF_MAPS_ITEMS_SEPARATOR,
+      PropertyKey.MAP_OF_MAPS_OF_LISTS_ITEMS_SEPARATOR);
+  }
+}
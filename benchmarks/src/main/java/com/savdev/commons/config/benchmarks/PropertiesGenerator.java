@@ -0,0 +1,66 @@
+package com.savdev.commons.config.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Generates property values of a given size for benchmarks.
+ */
+final class PropertiesGenerator {
+
+  static final String KEY_PREFIX = "generated.key.";
+
+  private PropertiesGenerator() {
+  }
+
+  /**
+   * @return a properties file with {@code keys} string properties and one additional property
+   */
+  static byte[] file(final int keys, final String additionalKey, final String additionalValue) {
+    StringBuilder file = new StringBuilder();
+    for (int key = 0; key < keys; key++) {
+      file.append(KEY_PREFIX).append(key).append("=generated.value.").append(key).append('\n');
+    }
+    file.append(additionalKey).append('=').append(additionalValue).append('\n');
+    return file.toString().getBytes(StandardCharsets.ISO_8859_1);
+  }
+
+  /**
+   * @return a value in the default {@code List<String>} format, {@code item0|item1|...}
+   */
+  static String list(final int items) {
+    StringBuilder value = new StringBuilder();
+    for (int item = 0; item < items; item++) {
+      if (item > 0) {
+        value.append('|');
+      }
+      value.append("item").append(item);
+    }
+    return value.toString();
+  }
+
+  /**
+   * @return a value in the default {@code Map<String, Map<String, List<String>>>} format
+   */
+  static String mapOfMapsOfLists(final int keys, final int subKeys, final int items) {
+    StringBuilder value = new StringBuilder();
+    for (int key = 0; key < keys; key++) {
+      if (key > 0) {
+        value.append('|');
+      }
+      value.append("key").append(key).append("->");
+      for (int subKey = 0; subKey < subKeys; subKey++) {
+        if (subKey > 0) {
+          value.append('&');
+        }
+        value.append("subkey").append(subKey).append('>');
+        for (int item = 0; item < items; item++) {
+          if (item > 0) {
+            value.append(':');
+          }
+          value.append("value").append(key).append('_').append(subKey).append('_').append(item);
+        }
+      }
+    }
+    return value.toString();
+  }
+}
@@ -0,0 +1,61 @@
+package com.savdev.commons.config.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import com.savdev.commons.config.PropertySources;
+import com.savdev.commons.config.PropertyTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing of multi-MB generated files into the property table:
+ * {@link Properties#load(java.io.InputStream)} with the copy of the {@code Hashtable},
+ * against the parser, used by the file sources.
+ * The large value is split by line continuations, so both the plain and the escaped paths are measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PropertiesParsingBenchmark {
+
+  @Param({"100000", "500000"})
+  int keys;
+
+  byte[] file;
+
+  @Setup
+  public void setUp() {
+    file = PropertiesGenerator.file(keys,
+      LargeConfig.MAP_OF_MAPS_OF_LISTS_KEY,
+      PropertiesGenerator.mapOfMapsOfLists(10000, 5, 4).replace("|", "|\\\n  "));
+  }
+
+  @Benchmark
+  @SuppressWarnings("unchecked")
+  public Map<String, String> propertiesLoad() throws IOException {
+    Properties properties = new Properties();
+    properties.load(new ByteArrayInputStream(file));
+    return PropertyTable.copyOf((Map) properties);
+  }
+
+  @Benchmark
+  public Map<String, String> parser() {
+    return PropertySources.inputStream(new ByteArrayInputStream(file)).properties();
+  }
+}
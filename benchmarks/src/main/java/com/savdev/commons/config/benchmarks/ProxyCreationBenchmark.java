@@ -0,0 +1,44 @@
+package com.savdev.commons.config.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Loading of the benchmark config file and creation of a {@link BenchmarkConfig} proxy.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProxyCreationBenchmark {
+
+  @Param({"FILE", "IMMUTABLE", "GENERATED"})
+  Factory factory;
+
+  byte[] file;
+
+  @Setup
+  public void setUp() {
+    file = TestFiles.read(TestFiles.TEST_CONFIG);
+  }
+
+  @Benchmark
+  public BenchmarkConfig proxy() {
+    return factory.create(new ByteArrayInputStream(file))
+                  .proxy(BenchmarkConfig.class);
+  }
+}
@@ -0,0 +1,46 @@
+package com.savdev.commons.config.benchmarks;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Parsing of map of maps of lists with {@link String#split(String)},
+ * as it was done before separators were compiled once. A baseline for benchmarks.
+ */
+final class RegexSplitParsing {
+
+  private RegexSplitParsing() {
+  }
+
+  static Map<String, Map<String, List<String>>> mapOfMapsOfLists(
+    final String value,
+    final String itemsSeparator,
+    final String keyValueSeparator,
+    final String mapsListItemsSeparator,
+    final String mapsOfMapsItemsSeparator,
+    final String mapsOfMapsOfListsItemsSeparator) {
+    return Arrays.stream(value.split(itemsSeparator))
+                 .collect(toMap(
+                   keyValuePair -> validateAndExtract(keyValuePair, keyValueSeparator, 0),
+                   keyValuePair -> Arrays.stream(
+                     validateAndExtract(keyValuePair, keyValueSeparator, 1).split(mapsListItemsSeparator))
+                                         .collect(toMap(
+                                           pair -> validateAndExtract(pair, mapsOfMapsItemsSeparator, 0),
+                                           pair -> Arrays.stream(
+                                             validateAndExtract(pair, mapsOfMapsItemsSeparator, 1)
+                                               .split(mapsOfMapsOfListsItemsSeparator))
+                                                         .collect(toList())))));
+  }
+
+  private static String validateAndExtract(String keyValuePair, String keyValueSeparator, int position) {
+    String[] keyValue = keyValuePair.split(keyValueSeparator);
+    if (keyValue.length != 2) {
+      throw new IllegalStateException("Wrong configuration of map items: " + keyValuePair);
+    }
+    return keyValue[position];
+  }
+}
@@ -0,0 +1,79 @@
+package com.savdev.commons.config.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.savdev.commons.config.ConfigSnapshot;
+import com.savdev.commons.config.Configs;
+
+/**
+ * Creation of an immutable proxy from a generated text file and from its compiled snapshot.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SnapshotLoadingBenchmark {
+
+  private static final String FOLDER_PROPERTY = "snapshot.benchmark.folder";
+
+  private static final String FILE_NAME = "large.properties";
+
+  @Param({"1000", "50000"})
+  int keys;
+
+  @Param({"100", "10000"})
+  int mapKeys;
+
+  Path folder;
+
+  byte[] file;
+
+  @Setup
+  public void setUp() throws IOException {
+    file = PropertiesGenerator.file(keys,
+      LargeConfig.MAP_OF_MAPS_OF_LISTS_KEY, PropertiesGenerator.mapOfMapsOfLists(mapKeys, 5, 4));
+    folder = Files.createTempDirectory("snapshot-benchmark");
+    Path propertiesFile = folder.resolve(FILE_NAME);
+    Files.write(propertiesFile, file);
+    ConfigSnapshot.compile(propertiesFile, folder.resolve(FILE_NAME + ConfigSnapshot.SUFFIX), LargeConfig.class);
+    System.setProperty(FOLDER_PROPERTY, folder.toString());
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.delete(folder.resolve(FILE_NAME + ConfigSnapshot.SUFFIX));
+    Files.delete(folder.resolve(FILE_NAME));
+    Files.delete(folder);
+  }
+
+  @Benchmark
+  public LargeConfig text() {
+    return Configs.immutableFileConfig(new ByteArrayInputStream(file))
+                  .proxy(LargeConfig.class);
+  }
+
+  @Benchmark
+  public LargeConfig snapshot() {
+    return Configs.snapshotConfig(FOLDER_PROPERTY, FILE_NAME)
+                  .proxy(LargeConfig.class);
+  }
+}
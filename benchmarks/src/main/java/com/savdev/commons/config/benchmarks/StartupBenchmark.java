@@ -0,0 +1,58 @@
+package com.savdev.commons.config.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.savdev.commons.config.ConfigFactory;
+import com.savdev.commons.config.Configs;
+import com.savdev.commons.config.PropertySources;
+
+/**
+ * Validation and conversion of all the values of several config interfaces at startup,
+ * one by one and in parallel on the common fork-join pool.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+
+  @Param({"1000", "10000"})
+  int mapKeys;
+
+  byte[] file;
+
+  @Setup
+  public void setUp() {
+    file = PropertiesGenerator.file(1000,
+      LargeConfig.MAP_OF_MAPS_OF_LISTS_KEY, PropertiesGenerator.mapOfMapsOfLists(mapKeys, 5, 4));
+  }
+
+  @Benchmark
+  public WideConfig sequential() {
+    ConfigFactory configFactory = Configs.immutableFileConfig(new ByteArrayInputStream(file));
+    configFactory.proxy(LargeConfig.class);
+    return configFactory.proxy(WideConfig.class);
+  }
+
+  @Benchmark
+  public WideConfig preloaded() {
+    return Configs.preloadedConfig(PropertySources.inputStream(new ByteArrayInputStream(file)),
+      LargeConfig.class, WideConfig.class)
+      .proxy(WideConfig.class);
+  }
+}
@@ -0,0 +1,59 @@
+package com.savdev.commons.config.benchmarks;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.savdev.commons.config.PropertyKey;
+import com.savdev.commons.config.PropertyValues;
+
+/**
+ * Search of an item near the start of a large list value: the whole list is split
+ * for a {@code List} return type, only the items before the match for a {@code Stream}.
+ * Run with {@code -prof gc} to compare allocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StreamValueBenchmark {
+
+  private static final String SEARCHED_ITEM = "item10";
+
+  @Param({"10000", "100000"})
+  int items;
+
+  String value;
+
+  @Setup
+  public void setUp() {
+    value = PropertiesGenerator.list(items);
+  }
+
+  @Benchmark
+  public Optional<String> list() {
+    return PropertyValues.list(value, PropertyKey.ITEMS_SEPARATOR).stream()
+                         .filter(SEARCHED_ITEM::equals)
+                         .findFirst();
+  }
+
+  @Benchmark
+  public Optional<String> stream() {
+    return PropertyValues.stream(value, PropertyKey.ITEMS_SEPARATOR).get()
+                         .filter(SEARCHED_ITEM::equals)
+                         .findFirst();
+  }
+}
@@ -0,0 +1,32 @@
+package com.savdev.commons.config.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Config files, read into memory, so benchmarks do not measure disk access.
+ */
+final class TestFiles {
+
+  static final String TEST_CONFIG = "/configs/benchmark.config.properties";
+
+  private TestFiles() {
+  }
+
+  static byte[] read(final String resource) {
+    try (InputStream inputStream = TestFiles.class.getResourceAsStream(resource)) {
+      if (inputStream == null) {
+        throw new IllegalStateException("Could not find resource: " + resource);
+      }
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      byte[] buffer = new byte[8192];
+      for (int read; (read = inputStream.read(buffer)) > 0; ) {
+        bytes.write(buffer, 0, read);
+      }
+      return bytes.toByteArray();
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package com.savdev.commons.config.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+
+import com.savdev.commons.config.PropertyKey;
+
+import static com.savdev.commons.config.benchmarks.LargeConfig.MAP_OF_MAPS_OF_LISTS_KEY;
+
+/**
+ * Binds the large map value of a generated file by many methods, each of them is converted separately.
+ */
+public interface WideConfig {
+
+  @PropertyKey(MAP_OF_MAPS_OF_LISTS_KEY)
+  Map<String, Map<String, List<String>>> mapOfMapsOfLists1();
+
+  @PropertyKey(MAP_OF_MAPS_OF_LISTS_KEY)
+  Map<String, Map<String, List<String>>> mapOfMapsOfLists2();
+
+  @PropertyKey(MAP_OF_MAPS_OF_LISTS_KEY)
+  Map<String, Map<String, List<String>>> mapOfMapsOfLists3();
+
+  @PropertyKey(MAP_OF_MAPS_OF_LISTS_KEY)
+  Map<String, Map<String, List<String>>> mapOfMapsOfLists4();
+
+  @PropertyKey(MAP_OF_MAPS_OF_LISTS_KEY)
+  Map<String, Map<String, List<String>>> mapOfMapsOfLists5();
+
+  @PropertyKey(MAP_OF_MAPS_OF_LISTS_KEY)
+  Map<String, Map<String, List<String>>> mapOfMapsOfLists6();
+
+  @PropertyKey(MAP_OF_MAPS_OF_LISTS_KEY)
+  Map<String, Map<String, List<String>>> mapOfMapsOfLists7();
+
+  @PropertyKey(MAP_OF_MAPS_OF_LISTS_KEY)
+  Map<String, Map<String, List<String>>> mapOfMapsOfLists8();
+}
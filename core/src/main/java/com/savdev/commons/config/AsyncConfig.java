@@ -0,0 +1,80 @@
+package com.savdev.commons.config;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Creates config objects on an executor, so checks of files, loading, parsing and validation
+ * never block the calling thread, for instance an event loop thread.
+ *
+ * The factory is created on the executor as well, once, when this object is created,
+ * so factories of many files are loaded concurrently. Errors complete the futures exceptionally,
+ * {@link CompletableFuture#get()} reports the original exceptions as causes.
+ * A future, that is cancelled or timed out before its config object is created, is not loaded at all.
+ */
+public class AsyncConfig {
+
+  public static final String TIMEOUT_FORMAT_MSG =
+    "Configuration interface: '%s' is not loaded in %s.";
+
+  /**
+   * The default executor, loading is mostly waiting for the disk, so threads are not limited.
+   */
+  static final ExecutorService LOADER = Executors.newCachedThreadPool(runnable -> {
+    Thread thread = new Thread(runnable, "config-loader");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "config-timeout");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private final Executor executor;
+
+  private final CompletableFuture<ConfigFactory> factory;
+
+  AsyncConfig(Supplier<ConfigFactory> factory, Executor executor) {
+    this.executor = executor;
+    this.factory = CompletableFuture.supplyAsync(factory, executor);
+  }
+
+  /**
+   * @return the factory, for instance to register listeners of a reloadable factory
+   */
+  public CompletableFuture<ConfigFactory> factory() {
+    return factory;
+  }
+
+  /**
+   * @return the config object, created on the executor
+   */
+  public <T> CompletableFuture<T> proxy(Class<T> configInterface) {
+    return factory.thenApplyAsync(configFactory -> configFactory.proxy(configInterface), executor);
+  }
+
+  /**
+   * The same as {@link #proxy(Class)}, but the future is completed with a {@link TimeoutException},
+   * if the config object is not created in time.
+   */
+  public <T> CompletableFuture<T> proxy(Class<T> configInterface, Duration timeout) {
+    CompletableFuture<T> proxy = proxy(configInterface);
+    ScheduledFuture<?> timer = TIMER.schedule(
+      () -> proxy.completeExceptionally(new TimeoutException(
+        String.format(TIMEOUT_FORMAT_MSG, configInterface.getName(), timeout))),
+      timeout.toNanos(),
+      TimeUnit.NANOSECONDS);
+    proxy.whenComplete((config, error) -> timer.cancel(false));
+    return proxy;
+  }
+}
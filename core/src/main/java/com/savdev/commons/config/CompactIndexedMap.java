@@ -0,0 +1,155 @@
+package com.savdev.commons.config;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Ordering;
+
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * {@link IndexedMap} over a parsed map value.
+ *
+ * Keys are kept sorted, so a prefix lookup is a binary search and returns a view of the sorted keys.
+ * The inverted index maps each string of the values, on any level of nesting, to the keys of the entries,
+ * which contain it.
+ */
+final class CompactIndexedMap<V> extends AbstractMap<String, V> implements IndexedMap<V> {
+
+  private static final CompactIndexedMap<Object> EMPTY = new CompactIndexedMap<>(Collections.emptyMap());
+
+  private final Map<String, V> map;
+
+  private final List<String> sortedKeys;
+
+  private final Map<String, List<String>> keysByValue;
+
+  private CompactIndexedMap(Map<String, V> map) {
+    this.map = map;
+    this.sortedKeys = Ordering.natural().immutableSortedCopy(map.keySet());
+    Map<String, Set<String>> keysByValue = new LinkedHashMap<>();
+    map.forEach((key, value) -> addKey(keysByValue, key, value));
+    Map<String, List<String>> index = new LinkedHashMap<>();
+    keysByValue.forEach((value, keys) -> index.put(value, ImmutableList.copyOf(keys)));
+    this.keysByValue = CompactMap.copyOf(index);
+  }
+
+  @SuppressWarnings("unchecked")
+  static <V> IndexedMap<V> of(final Map<String, V> map) {
+    if (map instanceof IndexedMap) {
+      return (IndexedMap<V>) map;
+    }
+    return map.isEmpty()
+      ? (IndexedMap<V>) EMPTY
+      : new CompactIndexedMap<>(PropertyValues.immutableCopy(map));
+  }
+
+  @Override
+  public List<String> keysWithPrefix(final String prefix) {
+    int from = firstNotLess(prefix);
+    int to = from;
+    int high = sortedKeys.size();
+    //keys, that start with the prefix, follow each other
+    while (to < high) {
+      int middle = (to + high) >>> 1;
+      if (sortedKeys.get(middle).startsWith(prefix)) {
+        to = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return sortedKeys.subList(from, to);
+  }
+
+  /**
+   * Every key, that is a prefix of the value, is not greater than the value.
+   * If the greatest such key is not a prefix, the prefix keys are prefixes of its common part
+   * with the value, so the search goes on with the common part.
+   */
+  @Override
+  public Optional<String> longestPrefixKey(final String value) {
+    String probe = value;
+    while (true) {
+      int floor = firstNotLess(probe);
+      if (floor < sortedKeys.size() && sortedKeys.get(floor).equals(probe)) {
+        return Optional.of(probe);
+      }
+      if (floor == 0) {
+        return Optional.empty();
+      }
+      String key = sortedKeys.get(floor - 1);
+      if (probe.startsWith(key)) {
+        return Optional.of(key);
+      }
+      probe = probe.substring(0, commonPrefixLength(key, probe));
+    }
+  }
+
+  @Override
+  public List<String> keysOf(final String value) {
+    List<String> keys = keysByValue.get(value);
+    return keys == null ? Collections.emptyList() : keys;
+  }
+
+  @Override
+  public V get(Object key) {
+    return map.get(key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return map.containsKey(key);
+  }
+
+  @Override
+  public int size() {
+    return map.size();
+  }
+
+  @Override
+  public Set<Entry<String, V>> entrySet() {
+    return Collections.unmodifiableMap(map).entrySet();
+  }
+
+  /**
+   * @return the index of the first sorted key, that is not less than the value
+   */
+  private int firstNotLess(final String value) {
+    int low = 0;
+    int high = sortedKeys.size();
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (sortedKeys.get(middle).compareTo(value) < 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  private static int commonPrefixLength(final String first, final String second) {
+    int length = Math.min(first.length(), second.length());
+    int index = 0;
+    while (index < length && first.charAt(index) == second.charAt(index)) {
+      index++;
+    }
+    return index;
+  }
+
+  private static void addKey(final Map<String, Set<String>> keysByValue, final String key, final Object value) {
+    if (value instanceof Collection) {
+      ((Collection<?>) value).forEach(item -> addKey(keysByValue, key, item));
+    } else if (value instanceof Map) {
+      ((Map<?, ?>) value).values().forEach(item -> addKey(keysByValue, key, item));
+    } else {
+      keysByValue.computeIfAbsent((String) value, v -> new LinkedHashSet<>()).add(key);
+    }
+  }
+}
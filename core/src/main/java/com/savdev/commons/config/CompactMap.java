@@ -0,0 +1,183 @@
+package com.savdev.commons.config;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable map of converted map values, kept in insertion order.
+ *
+ * Keys and values are kept in one array of the exact size, with no entry objects.
+ * Small maps are scanned linearly. Larger ones have an additional table of entry indexes
+ * with open addressing and linear probing, so an entry takes about 16 bytes
+ * instead of 40 or more of a {@link java.util.HashMap}.
+ */
+final class CompactMap<V> extends AbstractMap<String, V> {
+
+  /**
+   * Maps of up to this size have no index table.
+   */
+  static final int MAX_SCANNED_SIZE = 8;
+
+  static final String DUPLICATE_KEY_FORMAT_MSG = "Duplicate key %s";
+
+  /**
+   * Keys at even and values at odd indexes.
+   */
+  private final Object[] entries;
+
+  /**
+   * Entry numbers plus one, {@code 0} for empty slots, {@code null} for small maps.
+   */
+  private final int[] table;
+
+  private CompactMap(Object[] entries, int[] table) {
+    this.entries = entries;
+    this.table = table;
+  }
+
+  /**
+   * @param entries keys at even and values at odd indexes, the array is copied
+   * @param size number of entries
+   * @throws IllegalStateException if keys are duplicated
+   */
+  static <V> Map<String, V> of(final Object[] entries, final int size) {
+    if (size == 0) {
+      return Collections.emptyMap();
+    }
+    Object[] copy = Arrays.copyOf(entries, size * 2);
+    if (size <= MAX_SCANNED_SIZE) {
+      for (int entry = 1; entry < size; entry++) {
+        for (int previous = 0; previous < entry; previous++) {
+          if (copy[entry * 2].equals(copy[previous * 2])) {
+            throw new IllegalStateException(String.format(DUPLICATE_KEY_FORMAT_MSG, copy[entry * 2]));
+          }
+        }
+      }
+      return new CompactMap<>(copy, null);
+    }
+    //load factor is not more than 0.5
+    int capacity = Integer.highestOneBit(size * 2 - 1) << 1;
+    int[] table = new int[capacity];
+    int mask = capacity - 1;
+    for (int entry = 0; entry < size; entry++) {
+      Object key = copy[entry * 2];
+      int slot = hash(key) & mask;
+      while (table[slot] != 0) {
+        if (copy[(table[slot] - 1) * 2].equals(key)) {
+          throw new IllegalStateException(String.format(DUPLICATE_KEY_FORMAT_MSG, key));
+        }
+        slot = (slot + 1) & mask;
+      }
+      table[slot] = entry + 1;
+    }
+    return new CompactMap<>(copy, table);
+  }
+
+  /**
+   * @return the map itself, if it is already compact, otherwise a compact copy
+   */
+  static <V> Map<String, V> copyOf(final Map<String, V> map) {
+    if (map instanceof CompactMap) {
+      return map;
+    }
+    Object[] entries = new Object[map.size() * 2];
+    int index = 0;
+    for (Entry<String, V> entry : map.entrySet()) {
+      entries[index++] = Objects.requireNonNull(entry.getKey());
+      entries[index++] = Objects.requireNonNull(entry.getValue());
+    }
+    return of(entries, map.size());
+  }
+
+  @Override
+  public V get(Object key) {
+    int index = index(key);
+    return index < 0 ? null : value(index);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return index(key) >= 0;
+  }
+
+  @Override
+  public int size() {
+    return entries.length / 2;
+  }
+
+  @Override
+  public Set<Entry<String, V>> entrySet() {
+    return new AbstractSet<Entry<String, V>>() {
+      @Override
+      public Iterator<Entry<String, V>> iterator() {
+        return new Iterator<Entry<String, V>>() {
+          private int index;
+
+          @Override
+          public boolean hasNext() {
+            return index < entries.length;
+          }
+
+          @Override
+          public Entry<String, V> next() {
+            if (!hasNext()) {
+              throw new NoSuchElementException();
+            }
+            Entry<String, V> entry = new SimpleImmutableEntry<>((String) entries[index], value(index));
+            index += 2;
+            return entry;
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return CompactMap.this.size();
+      }
+    };
+  }
+
+  /**
+   * @return the index of the key in the entries array, {@code -1} if there is no such key
+   */
+  private int index(final Object key) {
+    if (key == null) {
+      return -1;
+    }
+    Object[] entries = this.entries;
+    int[] table = this.table;
+    if (table == null) {
+      for (int index = 0; index < entries.length; index += 2) {
+        if (key.equals(entries[index])) {
+          return index;
+        }
+      }
+      return -1;
+    }
+    int mask = table.length - 1;
+    for (int slot = hash(key) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+      int index = (table[slot] - 1) * 2;
+      if (key.equals(entries[index])) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  @SuppressWarnings("unchecked")
+  private V value(final int index) {
+    return (V) entries[index + 1];
+  }
+
+  private static int hash(final Object key) {
+    int hash = key.hashCode();
+    return hash ^ (hash >>> 16);
+  }
+}
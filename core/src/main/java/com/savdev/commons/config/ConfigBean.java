@@ -0,0 +1,98 @@
+package com.savdev.commons.config;
+
+import com.google.common.collect.ImmutableSet;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Default;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.InjectionPoint;
+import javax.enterprise.util.AnnotationLiteral;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Application scoped bean of a config interface, registered by {@link ConfigExtension}.
+ * Returns the config object, already created by the factory.
+ */
+final class ConfigBean<T> implements Bean<T> {
+
+  private static final Set<Annotation> QUALIFIERS = ImmutableSet.of(
+    new AnnotationLiteral<Default>() {},
+    new AnnotationLiteral<Any>() {});
+
+  private final Class<T> configInterface;
+
+  private final Set<Type> types;
+
+  private final ConfigFactory configs;
+
+  ConfigBean(Class<T> configInterface, ConfigFactory configs) {
+    this.configInterface = configInterface;
+    this.configs = configs;
+    this.types = ImmutableSet.of(configInterface, Object.class);
+  }
+
+  @Override
+  public T create(CreationalContext<T> creationalContext) {
+    return configs.proxy(configInterface);
+  }
+
+  @Override
+  public void destroy(T instance, CreationalContext<T> creationalContext) {
+  }
+
+  @Override
+  public Class<?> getBeanClass() {
+    return configInterface;
+  }
+
+  @Override
+  public Set<InjectionPoint> getInjectionPoints() {
+    return Collections.emptySet();
+  }
+
+  @Override
+  public boolean isNullable() {
+    return false;
+  }
+
+  @Override
+  public Set<Type> getTypes() {
+    return types;
+  }
+
+  @Override
+  public Set<Annotation> getQualifiers() {
+    return QUALIFIERS;
+  }
+
+  @Override
+  public Class<? extends Annotation> getScope() {
+    return ApplicationScoped.class;
+  }
+
+  @Override
+  public String getName() {
+    return null;
+  }
+
+  @Override
+  public Set<Class<? extends Annotation>> getStereotypes() {
+    return Collections.emptySet();
+  }
+
+  @Override
+  public boolean isAlternative() {
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    return "Config bean of " + configInterface.getName();
+  }
+}
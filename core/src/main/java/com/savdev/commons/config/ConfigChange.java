@@ -0,0 +1,34 @@
+package com.savdev.commons.config;
+
+import java.util.List;
+
+/**
+ * Changed values of a config interface after a reload.
+ */
+public class ConfigChange {
+
+  private final Class<?> configInterface;
+
+  private final List<PropertyChange> changes;
+
+  ConfigChange(Class<?> configInterface, List<PropertyChange> changes) {
+    this.configInterface = configInterface;
+    this.changes = changes;
+  }
+
+  public Class<?> getConfigInterface() {
+    return configInterface;
+  }
+
+  /**
+   * @return changes of the methods, whose values differ in the old and new configuration
+   */
+  public List<PropertyChange> getChanges() {
+    return changes;
+  }
+
+  @Override
+  public String toString() {
+    return configInterface.getName() + changes;
+  }
+}
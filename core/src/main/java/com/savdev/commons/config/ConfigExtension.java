@@ -0,0 +1,97 @@
+package com.savdev.commons.config;
+
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.spi.AfterBeanDiscovery;
+import javax.enterprise.inject.spi.Extension;
+import javax.enterprise.inject.spi.ProcessAnnotatedType;
+import javax.enterprise.inject.spi.ProcessInjectionPoint;
+import javax.enterprise.inject.spi.WithAnnotations;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * CDI extension, that registers each config interface, annotated with {@link ConfigFile},
+ * as an {@code @ApplicationScoped} bean with the default qualifier.
+ *
+ * All the config interfaces are validated and their values are converted once, during the deployment,
+ * by one {@link PreloadedConfig}, so errors of all the interfaces fail the deployment together.
+ * Interfaces of the same file share one source, loaded once. Injected config objects are immutable.
+ *
+ * {@link ConfigFile} is not a bean defining annotation, so in an archive with the default
+ * {@code annotated} bean discovery mode, config interfaces are not processed as types.
+ * Then they are collected from injection points of the discovered beans instead.
+ * An interface, that is only looked up programmatically, with {@code Instance}, is registered
+ * only in archives with {@code bean-discovery-mode="all"}.
+ */
+public class ConfigExtension implements Extension {
+
+  public static final String NOT_EXISTING_RESOURCE_FORMAT_MSG =
+    "Class path resource: '%s' does not exist.";
+
+  private final Map<Class<?>, PropertySource> sources = new LinkedHashMap<>();
+
+  private final Map<List<String>, PropertySource> fileSources = new HashMap<>();
+
+  <T> void processConfigFile(@Observes @WithAnnotations(ConfigFile.class) ProcessAnnotatedType<T> event) {
+    register(event.getAnnotatedType().getJavaClass());
+  }
+
+  <T, X> void processInjectionPoint(@Observes ProcessInjectionPoint<T, X> event) {
+    Type type = event.getInjectionPoint().getType();
+    if (type instanceof Class) {
+      register((Class<?>) type);
+    }
+  }
+
+  void afterBeanDiscovery(@Observes AfterBeanDiscovery event) {
+    if (sources.isEmpty()) {
+      return;
+    }
+    ConfigFactory configs;
+    try {
+      configs = new PreloadedConfig(sources, ForkJoinPool.commonPool());
+    } catch (RuntimeException e) {
+      event.addDefinitionError(e);
+      return;
+    }
+    sources.keySet().forEach(configInterface -> event.addBean(new ConfigBean<>(configInterface, configs)));
+  }
+
+  void register(final Class<?> configInterface) {
+    ConfigFile file = configInterface.getAnnotation(ConfigFile.class);
+    if (file == null || !configInterface.isInterface()) {
+      return;
+    }
+    sources.put(configInterface, fileSources.computeIfAbsent(
+      Arrays.asList(file.folderProperty(), file.value()),
+      key -> source(file, configInterface.getClassLoader())));
+  }
+
+  /**
+   * Files are resolved and loaded, when the sources are preloaded,
+   * so their errors are reported together with errors of the interfaces.
+   */
+  private static PropertySource source(final ConfigFile file, final ClassLoader classLoader) {
+    if (!file.folderProperty().isEmpty()) {
+      return () -> PropertySources.file(Configs.configFile(file.folderProperty(), file.value())).properties();
+    }
+    return () -> {
+      try (InputStream inputStream = classLoader.getResourceAsStream(file.value())) {
+        if (inputStream == null) {
+          throw new IllegalStateException(String.format(NOT_EXISTING_RESOURCE_FORMAT_MSG, file.value()));
+        }
+        return FileConfig.load(inputStream);
+      } catch (IOException e) {
+        throw new IllegalStateException(e);
+      }
+    };
+  }
+}
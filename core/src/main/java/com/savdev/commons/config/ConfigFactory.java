@@ -0,0 +1,24 @@
+package com.savdev.commons.config;
+
+public interface ConfigFactory {
+
+  <T> T proxy(Class<T> configInterface);
+
+  /**
+   * Registers a listener for changes of any value of the config interface.
+   * Factories, that never change their configuration, never call listeners.
+   */
+  default void addListener(Class<?> configInterface, ConfigListener listener) {
+  }
+
+  /**
+   * Registers a listener for changes of values, bound to the {@link PropertyKey} key.
+   * Factories, that never change their configuration, never call listeners.
+   */
+  default void addListener(String propertyKey, ConfigListener listener) {
+  }
+
+  default void removeListener(ConfigListener listener) {
+  }
+
+}
@@ -0,0 +1,27 @@
+package com.savdev.commons.config;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+
+/**
+ * Binds a config interface to its properties file, so {@link ConfigExtension}
+ * registers the config interface as an application scoped CDI bean.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target( {TYPE} )
+public @interface ConfigFile {
+
+  /**
+   * Name of the file in the folder or, if the folder is not set, of a class path resource.
+   */
+  String value();
+
+  /**
+   * System property, that refers to the folder of the file, see {@link Configs#configFile(String, String)}.
+   */
+  String folderProperty() default "";
+
+}
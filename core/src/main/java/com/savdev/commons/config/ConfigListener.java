@@ -0,0 +1,12 @@
+package com.savdev.commons.config;
+
+/**
+ * Receives changes of config values after a reload.
+ * Called asynchronously, not on the thread that reloads the configuration.
+ */
+@FunctionalInterface
+public interface ConfigListener {
+
+  void changed(ConfigChange change);
+
+}
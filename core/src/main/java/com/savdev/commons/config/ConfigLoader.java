@@ -0,0 +1,19 @@
+package com.savdev.commons.config;
+
+import java.util.Map;
+
+/**
+ * Creates implementations of config interfaces, generated at compile time.
+ * Implementations of this interface are generated by the commons-config-processor
+ * and registered as {@link java.util.ServiceLoader} services,
+ * so {@link Configs} factories use them instead of reflection.
+ */
+public interface ConfigLoader {
+
+  /**
+   * @return an implementation of the config interface, filled with the properties,
+   *         or {@code null} if the loader does not know the interface.
+   */
+  <T> T create(Class<T> configInterface, Map<String, String> properties);
+
+}
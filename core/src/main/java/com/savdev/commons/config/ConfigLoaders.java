@@ -0,0 +1,29 @@
+package com.savdev.commons.config;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * Registered {@link ConfigLoader} services, looked up once.
+ */
+final class ConfigLoaders {
+
+  private static final List<ConfigLoader> LOADERS =
+    ImmutableList.copyOf(ServiceLoader.load(ConfigLoader.class, ConfigLoaders.class.getClassLoader()));
+
+  private ConfigLoaders() {
+  }
+
+  static <T> T create(final Class<T> configInterface, final Map<String, String> properties) {
+    for (ConfigLoader loader : LOADERS) {
+      T config = loader.create(configInterface, properties);
+      if (config != null) {
+        return config;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,164 @@
+package com.savdev.commons.config;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Optional instrumentation of config factories: calls and conversions of each property key,
+ * sizes of converted lists and maps, load durations and keys, that are not bound by any config interface.
+ *
+ * Counters are {@link LongAdder} objects, so concurrent calls do not contend on them.
+ * Getters return snapshots of the current values, the same metrics are available via JMX,
+ * see {@link #register(String)}. One object can be shared by several factories,
+ * a key is unbound, if it is loaded by any of their sources and is not bound by any of their interfaces.
+ */
+public final class ConfigMetrics implements ConfigMetricsMXBean {
+
+  public static final String OBJECT_NAME_FORMAT = "com.savdev.commons.config:type=ConfigMetrics,name=%s";
+
+  private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+  private final Set<String> boundKeys = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Key prefixes of bound property groups, with the trailing dot.
+   */
+  private final Set<String> boundPrefixes = ConcurrentHashMap.newKeySet();
+
+  private final LongAdder loads = new LongAdder();
+
+  private final LongAdder loadTimeNanos = new LongAdder();
+
+  private volatile long lastLoadTimeNanos;
+
+  /**
+   * Keys of the last load of each source, by files of the source, or by the source, if it has no files.
+   * Files identify sources of factories, created again for the same files.
+   */
+  private final Map<Object, Set<String>> loadedKeys = new ConcurrentHashMap<>();
+
+  @Override
+  public Map<String, KeyMetrics> getKeyMetrics() {
+    ImmutableMap.Builder<String, KeyMetrics> keyMetrics = ImmutableMap.builder();
+    counters.forEach((key, counter) -> keyMetrics.put(key, new KeyMetrics(key,
+      counter.calls.sum(),
+      counter.conversions.sum(),
+      counter.conversionTimeNanos.sum(),
+      counter.valueSize)));
+    return keyMetrics.build();
+  }
+
+  @Override
+  public long getLoads() {
+    return loads.sum();
+  }
+
+  @Override
+  public long getLoadTimeNanos() {
+    return loadTimeNanos.sum();
+  }
+
+  @Override
+  public long getLastLoadTimeNanos() {
+    return lastLoadTimeNanos;
+  }
+
+  @Override
+  public Set<String> getUnboundKeys() {
+    return ImmutableSet.copyOf(loadedKeys.values().stream()
+                                         .flatMap(Set::stream)
+                                         .filter(key -> !boundKeys.contains(key))
+                                         .filter(key -> boundPrefixes.stream().noneMatch(key::startsWith))
+                                         .sorted()
+                                         .distinct()
+                                         .iterator());
+  }
+
+  /**
+   * Registers the metrics in the platform MBean server.
+   *
+   * @param name the name of the metrics, usually the name of the file
+   */
+  public ObjectName register(final String name) {
+    try {
+      ObjectName objectName = objectName(name);
+      ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+      return objectName;
+    } catch (JMException e) {
+      throw new IllegalStateException("Could not register config metrics: " + name, e);
+    }
+  }
+
+  public void unregister(final String name) {
+    try {
+      ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName(name));
+    } catch (JMException e) {
+      throw new IllegalStateException("Could not unregister config metrics: " + name, e);
+    }
+  }
+
+  void loaded(final PropertySource source, final Map<String, String> properties, final long nanos) {
+    loads.increment();
+    loadTimeNanos.add(nanos);
+    lastLoadTimeNanos = nanos;
+    Collection<Path> files = source.files();
+    loadedKeys.put(files.isEmpty() ? source : ImmutableList.copyOf(files), ImmutableSet.copyOf(properties.keySet()));
+  }
+
+  /**
+   * @return counters of the methods of the config interface, its keys are bound from now on
+   */
+  Map<Method, Counters> bind(final Collection<Method> methods) {
+    ImmutableMap.Builder<Method, Counters> methodCounters = ImmutableMap.builder();
+    for (Method method : methods) {
+      PropertyKey propertyKey = method.getAnnotation(PropertyKey.class);
+      PropertyGroup propertyGroup = method.getAnnotation(PropertyGroup.class);
+      if (propertyKey != null) {
+        boundKeys.add(propertyKey.value());
+      } else if (propertyGroup != null) {
+        boundPrefixes.add(propertyGroup.value() + '.');
+      } else {
+        continue;
+      }
+      methodCounters.put(method, counters.computeIfAbsent(FileConfig.key(method), key -> new Counters()));
+    }
+    return methodCounters.build();
+  }
+
+  private static ObjectName objectName(final String name) throws JMException {
+    return new ObjectName(String.format(OBJECT_NAME_FORMAT, ObjectName.quote(name)));
+  }
+
+  static final class Counters {
+
+    final LongAdder calls = new LongAdder();
+
+    private final LongAdder conversions = new LongAdder();
+
+    private final LongAdder conversionTimeNanos = new LongAdder();
+
+    private volatile int valueSize = -1;
+
+    void converted(final long nanos, final Object value) {
+      conversions.increment();
+      conversionTimeNanos.add(nanos);
+      if (value instanceof Collection) {
+        valueSize = ((Collection<?>) value).size();
+      } else if (value instanceof Map) {
+        valueSize = ((Map<?, ?>) value).size();
+      }
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package com.savdev.commons.config;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JMX view of {@link ConfigMetrics}.
+ */
+public interface ConfigMetricsMXBean {
+
+  /**
+   * @return metrics of each bound property key
+   */
+  Map<String, KeyMetrics> getKeyMetrics();
+
+  long getLoads();
+
+  long getLoadTimeNanos();
+
+  long getLastLoadTimeNanos();
+
+  /**
+   * @return keys of the last loaded properties, that are not bound by any config interface
+   */
+  Set<String> getUnboundKeys();
+}
@@ -0,0 +1,161 @@
+package com.savdev.commons.config;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiles a properties file into a binary snapshot, that is memory-mapped on loading
+ * instead of parsing the text file, see {@link Configs#snapshotConfig(String, String)}.
+ *
+ * Besides the properties, a snapshot keeps values of list and map methods of the given
+ * config interfaces, already split by their separators, so they are not parsed on loading.
+ * A snapshot is stale, when the size or the modification time of the properties file
+ * differs from the compiled one, then the properties file is loaded instead.
+ *
+ * Format, all numbers are big-endian ints, strings are UTF-8 bytes after their length:
+ * <pre>
+ * magic, version, properties file size (long), properties file modification time (long),
+ * number of properties, [key, value]...,
+ * number of split values, [value key, length of the encoded value, encoded value]...
+ * </pre>
+ * An encoded value is a tag byte followed by a string, or by a number of items
+ * and the items for lists, or by a number of entries and keys with encoded values for maps.
+ */
+public final class ConfigSnapshot {
+
+  public static final String SUFFIX = ".snapshot";
+
+  static final int MAGIC = 0x43464753;
+
+  static final int VERSION = 1;
+
+  static final byte STRING = 's';
+
+  static final byte LIST = 'l';
+
+  static final byte MAP = 'm';
+
+  private static final String USAGE =
+    "Usage: " + ConfigSnapshot.class.getName() + " <properties file> <snapshot file> <config interface>...";
+
+  private ConfigSnapshot() {
+  }
+
+  public static void main(String[] args) throws ClassNotFoundException {
+    if (args.length < 2) {
+      throw new IllegalArgumentException(USAGE);
+    }
+    Class<?>[] configInterfaces = new Class<?>[args.length - 2];
+    for (int i = 0; i < configInterfaces.length; i++) {
+      configInterfaces[i] = Class.forName(args[i + 2], false, Thread.currentThread().getContextClassLoader());
+    }
+    compile(Paths.get(args[0]), Paths.get(args[1]), configInterfaces);
+  }
+
+  /**
+   * @param configInterfaces interfaces, that bind the file, they are validated against the file,
+   *                         their list and map values are kept split in the snapshot
+   */
+  public static void compile(final Path propertiesFile, final Path snapshotFile, final Class<?>... configInterfaces) {
+    try {
+      BasicFileAttributes attributes = Files.readAttributes(propertiesFile, BasicFileAttributes.class);
+      Map<String, String> properties;
+      try (InputStream inputStream = Files.newInputStream(propertiesFile)) {
+        properties = FileConfig.load(inputStream);
+      }
+      Map<String, Object> splitValues = new LinkedHashMap<>();
+      for (Class<?> configInterface : configInterfaces) {
+        FileConfig.values(properties, configInterface).forEach((method, value) -> {
+          String valueKey = valueKey(method);
+          if (valueKey != null) {
+            splitValues.put(valueKey, value);
+          }
+        });
+      }
+
+      Path tempFile = Files.createTempFile(
+        snapshotFile.toAbsolutePath().getParent(), snapshotFile.getFileName().toString(), ".tmp");
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(attributes.size());
+        out.writeLong(attributes.lastModifiedTime().toMillis());
+        out.writeInt(properties.size());
+        for (Map.Entry<String, String> property : properties.entrySet()) {
+          writeString(out, property.getKey());
+          writeString(out, property.getValue());
+        }
+        out.writeInt(splitValues.size());
+        for (Map.Entry<String, Object> splitValue : splitValues.entrySet()) {
+          writeString(out, splitValue.getKey());
+          ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+          writeValue(new DataOutputStream(encoded), splitValue.getValue());
+          out.writeInt(encoded.size());
+          encoded.writeTo(out);
+        }
+      }
+      Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new IllegalStateException("Could not compile snapshot: " + snapshotFile + " of file: " + propertiesFile, e);
+    }
+  }
+
+  /**
+   * @return the key of a split value of the method, it changes with the property key,
+   *         the return type or separators, {@code null} for methods, that return single values
+   */
+  static String valueKey(final Method method) {
+    Class<?> returnType = method.getReturnType();
+    PropertyKey propertyKey = method.getAnnotation(PropertyKey.class);
+    if (propertyKey == null || !(List.class.equals(returnType) || Map.class.equals(returnType))) {
+      return null;
+    }
+    return String.join("\u0000",
+      propertyKey.value(),
+      method.getGenericReturnType().getTypeName(),
+      propertyKey.itemsSeparator(),
+      propertyKey.keyValueSeparator(),
+      propertyKey.mapsListItemsSeparator(),
+      propertyKey.mapsOfMapsItemsSeparator(),
+      propertyKey.mapsOfMapsOfListsItemsSeparator());
+  }
+
+  private static void writeValue(final DataOutputStream out, final Object value) throws IOException {
+    if (value instanceof List) {
+      out.writeByte(LIST);
+      out.writeInt(((List<?>) value).size());
+      for (Object item : (List<?>) value) {
+        writeValue(out, item);
+      }
+    } else if (value instanceof Map) {
+      out.writeByte(MAP);
+      out.writeInt(((Map<?, ?>) value).size());
+      for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+        writeString(out, (String) entry.getKey());
+        writeValue(out, entry.getValue());
+      }
+    } else {
+      out.writeByte(STRING);
+      writeString(out, (String) value);
+    }
+  }
+
+  private static void writeString(final DataOutputStream out, final String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+}
@@ -0,0 +1,236 @@
+package com.savdev.commons.config;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.File;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+public class Configs {
+
+  public static ConfigFactory fileConfig(InputStream inputStream){
+    return new FileConfig(inputStream);
+  }
+
+  public static ConfigFactory fileConfig(String sysProperty4Folder, String fileName){
+    return new FileConfig(fileSource(sysProperty4Folder, fileName), false);
+  }
+
+  /**
+   * Proxies, created by this factory, record their calls and conversions to the metrics.
+   */
+  public static ConfigFactory fileConfig(String sysProperty4Folder, String fileName, ConfigMetrics metrics){
+    return new FileConfig(fileSource(sysProperty4Folder, fileName), false, metrics);
+  }
+
+  /**
+   * Proxies, created by this factory, convert all the values on creation
+   * and return the same unmodifiable results on each call.
+   */
+  public static ConfigFactory immutableFileConfig(InputStream inputStream){
+    return new FileConfig(inputStream, true);
+  }
+
+  public static ConfigFactory immutableFileConfig(String sysProperty4Folder, String fileName){
+    return new FileConfig(fileSource(sysProperty4Folder, fileName), true);
+  }
+
+  public static ConfigFactory immutableFileConfig(String sysProperty4Folder, String fileName, ConfigMetrics metrics){
+    return new FileConfig(fileSource(sysProperty4Folder, fileName), true, metrics);
+  }
+
+  /**
+   * Config objects, created by this factory, are instances of classes,
+   * generated for each config interface. Their methods return converted values
+   * directly from fields, the same way as {@link #immutableFileConfig(InputStream)} proxies.
+   */
+  public static ConfigFactory generatedFileConfig(InputStream inputStream){
+    return new GeneratedConfig(new FileConfig(inputStream, true));
+  }
+
+  public static ConfigFactory generatedFileConfig(String sysProperty4Folder, String fileName){
+    return new GeneratedConfig(new FileConfig(fileSource(sysProperty4Folder, fileName), true));
+  }
+
+  /**
+   * Proxies, created by this factory, use the last successfully loaded version of the file.
+   * The file is reloaded on each change, until the factory is closed.
+   */
+  public static ReloadableFileConfig reloadableFileConfig(String sysProperty4Folder, String fileName){
+    return new ReloadableFileConfig(configFile(sysProperty4Folder, fileName));
+  }
+
+  public static ReloadableFileConfig reloadableFileConfig(
+    String sysProperty4Folder,
+    String fileName,
+    ConfigMetrics metrics){
+    return new ReloadableFileConfig(configFile(sysProperty4Folder, fileName), metrics);
+  }
+
+  /**
+   * For large files. The file is memory-mapped and only its keys are indexed, when a proxy is created.
+   * Values, bound to config methods, are decoded and copied, when the proxy is created, other values are never decoded.
+   */
+  public static ConfigFactory mappedFileConfig(String sysProperty4Folder, String fileName){
+    return new FileConfig(PropertySources.mappedFile(configFile(sysProperty4Folder, fileName)), false);
+  }
+
+  /**
+   * The same as {@link #immutableFileConfig(String, String)}, but the snapshot of the file,
+   * compiled by {@link ConfigSnapshot} into the same folder with {@link ConfigSnapshot#SUFFIX},
+   * is memory-mapped instead. List and map values are read from the snapshot without parsing.
+   * If the snapshot does not exist or is stale, the file is loaded.
+   */
+  public static ConfigFactory snapshotConfig(String sysProperty4Folder, String fileName){
+    Path file = configFile(sysProperty4Folder, fileName);
+    return new FileConfig(
+      PropertySources.snapshot(file, file.resolveSibling(fileName + ConfigSnapshot.SUFFIX)),
+      true);
+  }
+
+  /**
+   * Proxies, created by this factory, use the last version of the properties, downloaded from the HTTP endpoint.
+   * The endpoint is polled with conditional requests, with randomized delays around the interval.
+   * The last downloaded version, that is valid for all the config interfaces, is cached in the file
+   * and is used, if the endpoint is not available on creation, or if the downloaded version is not valid
+   * for the first proxy. Closing the factory stops polling.
+   */
+  public static ReloadableFileConfig remoteConfig(URI uri, Path cacheFile, Duration pollInterval){
+    RemoteSource source = new RemoteSource(uri, cacheFile, pollInterval, true);
+    ReloadableFileConfig reloadableFileConfig = new ReloadableFileConfig(source);
+    source.onChange(reloadableFileConfig::reload);
+    return reloadableFileConfig;
+  }
+
+  /**
+   * Flattens the sources into one table, when the proxy is created.
+   *
+   * @param sources in the order of increasing priority,
+   *                a value of a later source overrides values of the earlier sources
+   */
+  public static ConfigFactory layeredConfig(PropertySource... sources){
+    return new FileConfig(PropertySources.layered(sources), false);
+  }
+
+  /**
+   * The same as {@link #layeredConfig(PropertySource...)}, but the sources are reloaded
+   * on each change of their files, see {@link #reloadableFileConfig(String, String)}.
+   */
+  public static ReloadableFileConfig reloadableLayeredConfig(PropertySource... sources){
+    return new ReloadableFileConfig(PropertySources.layered(sources));
+  }
+
+  /**
+   * Loads the sources, validates the config interfaces and converts all their values in parallel,
+   * on the common fork-join pool. Errors of all the interfaces are reported by one exception.
+   * Config objects of the factory are immutable.
+   *
+   * @param sources sources of the config interfaces, a source, shared by many interfaces, is loaded once
+   */
+  public static ConfigFactory preloadedConfig(Map<Class<?>, PropertySource> sources){
+    return preloadedConfig(sources, ForkJoinPool.commonPool());
+  }
+
+  public static ConfigFactory preloadedConfig(Map<Class<?>, PropertySource> sources, ForkJoinPool pool){
+    return new PreloadedConfig(sources, pool);
+  }
+
+  /**
+   * The same as {@link #preloadedConfig(Map)}, for config interfaces of one source.
+   */
+  public static ConfigFactory preloadedConfig(PropertySource source, Class<?>... configInterfaces){
+    Map<Class<?>, PropertySource> sources = new LinkedHashMap<>();
+    for (Class<?> configInterface : configInterfaces) {
+      sources.put(configInterface, source);
+    }
+    return preloadedConfig(sources);
+  }
+
+  /**
+   * Creates the factory and config objects on a dedicated pool of daemon threads,
+   * for instance {@code asyncConfig(() -> Configs.immutableFileConfig(folderProperty, fileName))}.
+   */
+  public static AsyncConfig asyncConfig(Supplier<ConfigFactory> factory){
+    return asyncConfig(factory, AsyncConfig.LOADER);
+  }
+
+  public static AsyncConfig asyncConfig(Supplier<ConfigFactory> factory, Executor executor){
+    return new AsyncConfig(factory, executor);
+  }
+
+  /**
+   * @return the file, managed by a combination of a system property,
+   *         that refers to the folder location and a file name
+   */
+  public static Path configFile(String sysProperty4Folder, String fileName){
+    return Paths.get(propertiesFilePath(sysProperty4Folder, fileName));
+  }
+
+  private static PropertySource fileSource(String sysProperty4Folder, String fileName){
+    return PropertySources.file(configFile(sysProperty4Folder, fileName));
+  }
+
+  private static String propertiesFilePath(
+    final String configFolderSystemProperty,
+    final String fileName) {
+    if (StringUtils.isEmpty(configFolderSystemProperty)) {
+      throw new IllegalStateException(
+        "Not nullable parameter for "
+          + "system property is expected.");
+    }
+    String folderViaSetting = System.getProperty(configFolderSystemProperty);
+    if (StringUtils.isEmpty(folderViaSetting)) {
+      throw new IllegalStateException(
+        "System property is not defined: "
+          + configFolderSystemProperty);
+    }
+
+    File configFolder = new File(folderViaSetting);
+    validateDirectory(configFolder);
+
+    if (StringUtils.isEmpty(fileName)) {
+      throw new IllegalStateException(
+        "Not nullable parameter for "
+          + "property file propKey is expected.");
+    }
+    File configFile = new File(configFolder, fileName);
+    validateFile(configFile);
+
+    return configFile.getAbsolutePath();
+  }
+
+
+  private static void validateDirectory(File file) {
+    if (!file.exists()) {
+      throw new IllegalStateException("Directory not exist: "
+        + file.getAbsolutePath());
+    }
+    if (!file.isDirectory()) {
+      throw new IllegalStateException("Directory, not file is expected: "
+        + file.getAbsolutePath());
+    }
+  }
+
+  private static void validateFile(File file) {
+    if (!file.exists()) {
+      throw new IllegalStateException("File not exist: "
+        + file.getAbsolutePath());
+    }
+    if (file.isDirectory()) {
+      throw new IllegalStateException("File, but not directory is expected: "
+        + file.getAbsolutePath());
+    }
+    if (!file.canRead()) {
+      throw new IllegalStateException("File exists, but cannot be read: "
+        + file.getAbsolutePath());
+    }
+  }
+}
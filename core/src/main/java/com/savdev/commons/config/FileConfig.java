@@ -0,0 +1,634 @@
+package com.savdev.commons.config;
+
+import com.google.common.collect.ImmutableMap;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class FileConfig implements ConfigFactory {
+
+  public static final String WRONG_METHOD_DECLARATION_FORMAT_MSG =
+    "Wrong method declaration. Expected: " + PropertyKey.class.getName()
+      + " or " + PropertyGroup.class.getName() + " annotation. Method name: %s";
+
+  public static final String UNSUPPORTED_METHOD_FORMAT_MSG =
+    "Unsupported method: '%s'. Only abstract methods in interfaces are supported.";
+
+  public static final String UNSUPPORTED_RETURN_TYPE_FORMAT_MSG =
+    "Unsupported return type: '%s' in method: '%s'. Supported types: String, int, long, double, boolean, "
+      + "their wrappers, java.time.Duration, Optional of them, List, Map and IndexedMap of strings, "
+      + "Stream and Iterator of strings, Stream of map entries of strings. "
+      + "A byte size is supported only for long values.";
+
+  public static final String UNSUPPORTED_GROUP_TYPE_FORMAT_MSG =
+    "Unsupported return type: '%s' in method: '%s'. A property group is supported for a config interface, "
+      + "List and Map of strings to a config interface.";
+
+  public static final String WRONG_PROPERTY_GROUP_FORMAT_MSG =
+    "Could not bind property group: '%s' in method: '%s'. Error: %s";
+
+  public static final String PROPERTY_DOES_NOT_EXIST_FORMAT_MSG =
+    "Property key: '%s' does not exist. Use java.util.Optional as a return type if it is allowed not to have a property.";
+
+  public static final String WRONG_MAP_CONFIG_FORMAT_MSG =
+    "Wrong configuration of map items. Expected ${key}%s${value} configuration. Real pair: '%s'";
+
+  public static final String WRONG_PROPERTY_VALUE_FORMAT_MSG =
+    "Could not convert value of property key: '%s' in method: '%s'. Error: %s";
+
+  public static final String WRONG_PROXY_CONFIG_FORMAT_MSG =
+    "Configuration interface is not valid. Errors: %s";
+
+  final PropertySource source;
+
+  /**
+   * When set, all values are converted once on the proxy creation
+   * and the proxy returns the same unmodifiable results on each call.
+   */
+  final boolean eager;
+
+  /**
+   * Instrumentation of proxies, {@code null} if they are not instrumented.
+   */
+  final ConfigMetrics metrics;
+
+  FileConfig(InputStream inputStream) {
+    this(inputStream, false);
+  }
+
+  FileConfig(InputStream inputStream, boolean eager) {
+    this(PropertySources.inputStream(inputStream), eager);
+  }
+
+  FileConfig(PropertySource source, boolean eager) {
+    this(source, eager, null);
+  }
+
+  FileConfig(PropertySource source, boolean eager, ConfigMetrics metrics) {
+    this.source = source;
+    this.eager = eager;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public <T> T proxy(Class<T> configInterface) {
+    if (metrics != null) {
+      long start = System.nanoTime();
+      Map<String, String> propsAsMap = load();
+      metrics.loaded(source, propsAsMap, System.nanoTime() - start);
+      return instrumentedProxy(propsAsMap, configInterface);
+    }
+    if (source instanceof ParsedSources.FileSource) {
+      ParsedSources.Parsed parsed = ((ParsedSources.FileSource) source).parsed();
+      return parsed.config(
+        eager ? ParsedSources.Kind.IMMUTABLE_PROXY : ParsedSources.Kind.PROXY,
+        configInterface,
+        () -> proxy(parsed.properties, configInterface));
+    }
+    return proxy(load(), configInterface);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T proxy(final Map<String, String> propsAsMap, final Class<T> configInterface) {
+    //lazy proxies convert values on each call, as generated implementations do not
+    T compiled = eager ? compiled(configInterface, propsAsMap) : null;
+    if (compiled != null) {
+      return compiled;
+    }
+    Map<Method, PropertyAccessor> accessors = accessors(propsAsMap, configInterface);
+    if (eager) {
+      return immutableProxy(configInterface, values(propsAsMap, accessors, false));
+    }
+    Map<String, String> boundProps = bound(propsAsMap, configInterface);
+    return (T) Proxy.newProxyInstance(
+      FileConfig.class.getClassLoader(),
+      new Class<?>[]{configInterface},
+      (proxy, method, methodArgs) -> {
+        PropertyAccessor accessor = accessors.get(method);
+        if (accessor == null) {
+          throw new UnsupportedOperationException(
+            String.format(UNSUPPORTED_METHOD_FORMAT_MSG, method.getName()));
+        }
+        return LazyValue.value(accessor.value(boundProps));
+      });
+  }
+
+  /**
+   * The same as {@link #proxy(Map, Class)}, but the proxy counts calls and conversions of each method.
+   * Compiled implementations are not used, they could not be instrumented.
+   */
+  @SuppressWarnings("unchecked")
+  private <T> T instrumentedProxy(final Map<String, String> propsAsMap, final Class<T> configInterface) {
+    Map<Method, PropertyAccessor> accessors = accessors(propsAsMap, configInterface);
+    Map<Method, ConfigMetrics.Counters> counters = metrics.bind(accessors.keySet());
+    Map<Method, PropertyAccessor> instrumented = timed(accessors, counters);
+    Map<Method, Object> values = eager ? values(propsAsMap, instrumented, false) : null;
+    Map<String, String> boundProps = eager ? null : bound(propsAsMap, configInterface);
+    return (T) Proxy.newProxyInstance(
+      FileConfig.class.getClassLoader(),
+      new Class<?>[]{configInterface},
+      (proxy, method, methodArgs) -> {
+        ConfigMetrics.Counters counter = counters.get(method);
+        if (counter == null) {
+          throw new UnsupportedOperationException(
+            String.format(UNSUPPORTED_METHOD_FORMAT_MSG, method.getName()));
+        }
+        counter.calls.increment();
+        return LazyValue.value(values != null ? values.get(method) : instrumented.get(method).value(boundProps));
+      });
+  }
+
+  /**
+   * Validates the config interface and converts values of all its methods.
+   */
+  static Map<Method, Object> values(
+    final Map<String, String> propsAsMap,
+    final Class<?> configInterface) {
+    return values(propsAsMap, configInterface, false);
+  }
+
+  /**
+   * The same as {@link #values(Map, Class)}, but conversions are counted by the metrics.
+   *
+   * @param metrics {@code null} if conversions are not counted
+   */
+  static Map<Method, Object> values(
+    final Map<String, String> propsAsMap,
+    final Class<?> configInterface,
+    final ConfigMetrics metrics) {
+    if (metrics == null) {
+      return values(propsAsMap, configInterface);
+    }
+    Map<Method, PropertyAccessor> accessors = accessors(propsAsMap, configInterface);
+    return values(propsAsMap, timed(accessors, metrics.bind(accessors.keySet())), false);
+  }
+
+  /**
+   * @param parallel if set, the values are converted by a parallel stream,
+   *                 in the fork-join pool of the calling thread
+   */
+  static Map<Method, Object> values(
+    final Map<String, String> propsAsMap,
+    final Class<?> configInterface,
+    final boolean parallel) {
+    return values(propsAsMap, accessors(propsAsMap, configInterface), parallel);
+  }
+
+  /**
+   * @return a proxy, that returns the converted values
+   */
+  @SuppressWarnings("unchecked")
+  static <T> T immutableProxy(final Class<T> configInterface, final Map<Method, Object> values) {
+    return (T) Proxy.newProxyInstance(
+      FileConfig.class.getClassLoader(),
+      new Class<?>[]{configInterface},
+      (proxy, method, methodArgs) -> {
+        Object value = values.get(method);
+        if (value == null) {
+          throw new UnsupportedOperationException(
+            String.format(UNSUPPORTED_METHOD_FORMAT_MSG, method.getName()));
+        }
+        return LazyValue.value(value);
+      });
+  }
+
+  /**
+   * @return properties, that lazy proxies read on each call.
+   *         Values of memory-mapped properties, bound to the config interface, are copied,
+   *         so the proxy does not read the mapping, after the file is changed
+   */
+  private static Map<String, String> bound(final Map<String, String> propsAsMap, final Class<?> configInterface) {
+    if (!(propsAsMap instanceof IndexedProperties)) {
+      return propsAsMap;
+    }
+    return ((IndexedProperties) propsAsMap).copyOf(
+      Arrays.stream(configInterface.getMethods())
+            .filter(method -> method.isAnnotationPresent(PropertyKey.class))
+            .map(FileConfig::key)
+            .collect(Collectors.toList()));
+  }
+
+  Map<String, String> load() {
+    return source.properties();
+  }
+
+  static Map<String, String> load(final InputStream inputStream) {
+    try {
+      return PropertiesParser.load(inputStream);
+    } catch (IOException e) {
+      throw new IllegalStateException("Could not load file to create file proxy", e);
+    }
+  }
+
+  /**
+   * Validates the config interface and builds an immutable table
+   * of prebuilt accessors for all its methods. Nested config objects of property groups are created.
+   */
+  private static <T> Map<Method, PropertyAccessor> accessors(
+    final Map<String, String> propsAsMap,
+    final Class<T> configInterface) {
+    validateProxy(propsAsMap, configInterface);
+    ImmutableMap.Builder<Method, PropertyAccessor> accessors = ImmutableMap.builder();
+    List<String> sortedKeys = null;
+    List<String> errors = new ArrayList<>();
+    for (Method method : configInterface.getMethods()) {
+      if (method.isAnnotationPresent(PropertyKey.class) || !method.isAnnotationPresent(PropertyGroup.class)) {
+        accessors.put(method, accessor(propsAsMap, method));
+        continue;
+      }
+      if (sortedKeys == null) {
+        sortedKeys = PropertyGroups.sortedKeys(propsAsMap);
+      }
+      try {
+        accessors.put(method, new ConvertedAccessor(PropertyGroups.value(propsAsMap, sortedKeys, method)));
+      } catch (RuntimeException e) {
+        errors.add(e.getMessage());
+      }
+    }
+    if (!errors.isEmpty()) {
+      throw new IllegalStateException(
+        String.format(WRONG_PROXY_CONFIG_FORMAT_MSG, String.join(",", errors)));
+    }
+    return accessors.build();
+  }
+
+  /**
+   * @return the property key of the method or the key prefix of its property group
+   */
+  static String key(final Method method) {
+    PropertyKey propertyKey = method.getAnnotation(PropertyKey.class);
+    return propertyKey != null ? propertyKey.value() : method.getAnnotation(PropertyGroup.class).value();
+  }
+
+  /**
+   * @return the implementation, generated at compile time, {@code null} if there is none
+   *         or values of the properties are already split by a snapshot
+   */
+  static <T> T compiled(final Class<T> configInterface, final Map<String, String> propsAsMap) {
+    return propsAsMap instanceof SnapshotProperties ? null : ConfigLoaders.create(configInterface, propsAsMap);
+  }
+
+  /**
+   * Converts values of all the methods at once.
+   * Conversion errors are reported together, the same way as validation errors.
+   */
+  private static Map<Method, Object> values(
+    final Map<String, String> propsAsMap,
+    final Map<Method, PropertyAccessor> accessors,
+    final boolean parallel) {
+    Stream<Map.Entry<Method, PropertyAccessor>> entries = parallel
+      ? accessors.entrySet().parallelStream()
+      : accessors.entrySet().stream();
+    List<Object> converted = entries
+      .map(entry -> {
+        try {
+          Object value = entry.getValue().value(propsAsMap);
+          return entry.getValue() instanceof ConvertedAccessor ? value : PropertyValues.immutableCopy(value);
+        } catch (RuntimeException e) {
+          return new ConversionError(String.format(WRONG_PROPERTY_VALUE_FORMAT_MSG,
+            key(entry.getKey()),
+            entry.getKey().getName(),
+            e.getMessage()));
+        }
+      })
+      .collect(Collectors.toList());
+
+    ImmutableMap.Builder<Method, Object> values = ImmutableMap.builder();
+    List<String> errors = new ArrayList<>();
+    Iterator<Method> methods = accessors.keySet().iterator();
+    for (Object value : converted) {
+      Method method = methods.next();
+      if (value instanceof ConversionError) {
+        errors.add(((ConversionError) value).message);
+      } else {
+        values.put(method, value);
+      }
+    }
+    if (!errors.isEmpty()) {
+      throw new IllegalStateException(
+        String.format(WRONG_PROXY_CONFIG_FORMAT_MSG, String.join(",", errors)));
+    }
+    return values.build();
+  }
+
+  /**
+   * @return accessors, that count conversions, values, converted in advance, are not counted
+   */
+  private static Map<Method, PropertyAccessor> timed(
+    final Map<Method, PropertyAccessor> accessors,
+    final Map<Method, ConfigMetrics.Counters> counters) {
+    ImmutableMap.Builder<Method, PropertyAccessor> timedAccessors = ImmutableMap.builder();
+    accessors.forEach((method, accessor) -> {
+      ConfigMetrics.Counters counter = counters.get(method);
+      timedAccessors.put(method, accessor instanceof ConvertedAccessor
+        ? accessor
+        : properties -> {
+          long start = System.nanoTime();
+          Object value = accessor.value(properties);
+          counter.converted(System.nanoTime() - start, value);
+          return value;
+        });
+    });
+    return timedAccessors.build();
+  }
+
+  /**
+   * A value, split when a snapshot was compiled, is returned as is.
+   */
+  private static PropertyAccessor accessor(final Map<String, String> propsAsMap, final Method method) {
+    if (propsAsMap instanceof SnapshotProperties) {
+      String valueKey = ConfigSnapshot.valueKey(method);
+      Object splitValue = valueKey == null ? null : ((SnapshotProperties) propsAsMap).splitValue(valueKey);
+      if (splitValue != null) {
+        return new ConvertedAccessor(splitValue);
+      }
+    }
+    return accessor(method);
+  }
+
+  private static PropertyAccessor accessor(final Method method) {
+    PropertyKey propertyKey = method.getAnnotation(PropertyKey.class);
+    String key = propertyKey.value();
+    Function<String, ?> converter = converter(method, propertyKey);
+    PropertyAccessor accessor = properties -> converter.apply(properties.get(key));
+    return IndexedMap.class.equals(method.getReturnType()) ? new MemoizedAccessor(accessor) : accessor;
+  }
+
+  private static Function<String, ?> converter(
+    final Method method,
+    final PropertyKey propertyKey) {
+    Class<?> returnType = method.getReturnType();
+    if (isLazy(returnType)) {
+      Function<String, ?> converter = lazyConverter(method, propertyKey);
+      if (converter != null) {
+        return converter;
+      }
+    } else if (Optional.class.equals(returnType)) {
+      Function<String, ?> converter = scalarConverter(propertyKey.optionalClass(), propertyKey);
+      if (converter != null) {
+        return value -> PropertyValues.optional(value, converter);
+      }
+    } else if (List.class.equals(returnType)) {
+      return PropertyValues.listParser(propertyKey.itemsSeparator());
+    } else if (Map.class.equals(returnType)) {
+      return mapConverter(method, propertyKey,
+        ((ParameterizedType) method.getGenericReturnType()).getActualTypeArguments()[1]);
+    } else if (IndexedMap.class.equals(returnType)) {
+      return mapConverter(method, propertyKey,
+        ((ParameterizedType) method.getGenericReturnType()).getActualTypeArguments()[0])
+        .andThen(PropertyValues::indexedMap);
+    } else {
+      Function<String, ?> converter = scalarConverter(returnType, propertyKey);
+      if (converter != null) {
+        return converter;
+      }
+    }
+    throw new UnsupportedOperationException(
+      String.format(UNSUPPORTED_RETURN_TYPE_FORMAT_MSG,
+        returnType.getName(),
+        method.getName()));
+  }
+
+  /**
+   * @return the converter of a single value, {@code null} if the type is not supported
+   */
+  private static Function<String, ?> scalarConverter(
+    final Class<?> type,
+    final PropertyKey propertyKey) {
+    if (propertyKey.byteSize()) {
+      return long.class.equals(type) || Long.class.equals(type)
+        ? (Function<String, Long>) PropertyValues::byteSize
+        : null;
+    }
+    if (String.class.equals(type)) {
+      return Function.identity();
+    } else if (int.class.equals(type) || Integer.class.equals(type)) {
+      return Integer::valueOf;
+    } else if (long.class.equals(type) || Long.class.equals(type)) {
+      return Long::valueOf;
+    } else if (double.class.equals(type) || Double.class.equals(type)) {
+      return Double::valueOf;
+    } else if (boolean.class.equals(type) || Boolean.class.equals(type)) {
+      return (Function<String, Boolean>) PropertyValues::parseBoolean;
+    } else if (Duration.class.equals(type)) {
+      return PropertyValues::duration;
+    }
+    return null;
+  }
+
+  /**
+   * @return the converter to a {@link LazyValue} of the stream or the iterator,
+   *         {@code null} if the item type is not supported
+   */
+  private static Function<String, ?> lazyConverter(final Method method, final PropertyKey propertyKey) {
+    Type genericReturnType = method.getGenericReturnType();
+    if (!(genericReturnType instanceof ParameterizedType)) {
+      return null;
+    }
+    Type itemType = ((ParameterizedType) genericReturnType).getActualTypeArguments()[0];
+    boolean stream = Stream.class.equals(method.getReturnType());
+    if (String.class.equals(itemType)) {
+      return stream
+        ? PropertyValues.streamParser(propertyKey.itemsSeparator())
+        : PropertyValues.iteratorParser(propertyKey.itemsSeparator());
+    }
+    if (stream
+      && itemType instanceof ParameterizedType
+      && Map.Entry.class.equals(((ParameterizedType) itemType).getRawType())
+      && Arrays.stream(((ParameterizedType) itemType).getActualTypeArguments()).allMatch(String.class::equals)) {
+      return PropertyValues.entryStreamParser(propertyKey.itemsSeparator(), propertyKey.keyValueSeparator());
+    }
+    return null;
+  }
+
+  /**
+   * @param valueType the type of the map values
+   */
+  private static Function<String, Map<String, ?>> mapConverter(
+    final Method method,
+    final PropertyKey propertyKey,
+    final Type valueType) {
+    String valueTypeName = valueType.getTypeName();
+
+    if (String.class.getCanonicalName().equalsIgnoreCase(valueTypeName)) {
+      return PropertyValues.mapParser(
+        propertyKey.itemsSeparator(),
+        propertyKey.keyValueSeparator())::apply;
+    } else if (valueTypeName.startsWith(List.class.getCanonicalName())) {
+      return PropertyValues.mapOfListsParser(
+        propertyKey.itemsSeparator(),
+        propertyKey.keyValueSeparator(),
+        propertyKey.mapsListItemsSeparator())::apply;
+    } else if (valueTypeName.equals(
+      String.format("%s<%s, %s>",
+        Map.class.getCanonicalName(),
+        String.class.getCanonicalName(),
+        String.class.getCanonicalName()))) {
+      return PropertyValues.mapOfMapsParser(
+        propertyKey.itemsSeparator(),
+        propertyKey.keyValueSeparator(),
+        propertyKey.mapsListItemsSeparator(),
+        propertyKey.mapsOfMapsItemsSeparator())::apply;
+    } else if (valueTypeName.equals(
+      String.format("%s<%s, %s<%s>>",
+        Map.class.getCanonicalName(),
+        String.class.getCanonicalName(),
+        List.class.getCanonicalName(),
+        String.class.getCanonicalName()))) {
+      return PropertyValues.mapOfMapsOfListsParser(
+        propertyKey.itemsSeparator(),
+        propertyKey.keyValueSeparator(),
+        propertyKey.mapsListItemsSeparator(),
+        propertyKey.mapsOfMapsItemsSeparator(),
+        propertyKey.mapsOfMapsOfListsItemsSeparator())::apply;
+    } else {
+      return value -> {
+        throw new IllegalStateException("Could not create map from the current configuration: '"
+          + value + "'. Method: '" + method.getName() + "'");
+      };
+    }
+  }
+
+  private static boolean isSupported(final Method method, final PropertyKey propertyKey) {
+    Class<?> returnType = method.getReturnType();
+    if (isLazy(returnType)) {
+      return !propertyKey.byteSize() && lazyConverter(method, propertyKey) != null;
+    } else if (Optional.class.equals(returnType)) {
+      return scalarConverter(propertyKey.optionalClass(), propertyKey) != null;
+    }
+    return !propertyKey.byteSize() && isCollection(returnType)
+      || scalarConverter(returnType, propertyKey) != null;
+  }
+
+  /**
+   * @return whether the return type is a list, a map or a stream of items,
+   *         a not existing property is an empty value of them
+   */
+  private static boolean isCollection(final Class<?> returnType) {
+    return List.class.equals(returnType) || Map.class.equals(returnType) || IndexedMap.class.equals(returnType)
+      || isLazy(returnType);
+  }
+
+  /**
+   * @return whether the return type could be consumed only once, its value is a {@link LazyValue}
+   */
+  static boolean isLazy(final Class<?> returnType) {
+    return Stream.class.equals(returnType) || Iterator.class.equals(returnType);
+  }
+
+  private static <T> void validateProxy(
+    final Map<String, String> propsAsMap,
+    final Class<T> configInterface) {
+
+    List<String> errors = Arrays.stream(configInterface.getMethods())
+                                .map(method -> {
+                                  if (!Modifier.isAbstract(method.getModifiers())) {
+                                    return String.format(UNSUPPORTED_METHOD_FORMAT_MSG, method.getName());
+                                  }
+
+                                  Class<?> returnType = method.getReturnType();
+                                  PropertyKey propertyKey = method.getAnnotation(PropertyKey.class);
+                                  if (propertyKey == null && method.isAnnotationPresent(PropertyGroup.class)) {
+                                    return PropertyGroups.nestedInterface(method) == null
+                                      ? String.format(UNSUPPORTED_GROUP_TYPE_FORMAT_MSG,
+                                          returnType.getName(),
+                                          method.getName())
+                                      : null;
+                                  }
+                                  if (propertyKey == null) {
+                                    return String.format(WRONG_METHOD_DECLARATION_FORMAT_MSG, method.getName());
+                                  }
+
+                                  boolean isOptional = Optional.class.equals(returnType);
+                                  if (!propsAsMap.containsKey(propertyKey.value())
+                                    && !(isOptional || isCollection(returnType))) {
+                                    return String.format(PROPERTY_DOES_NOT_EXIST_FORMAT_MSG, propertyKey.value());
+                                  }
+
+                                  if (!isSupported(method, propertyKey)) {
+                                    return String.format(UNSUPPORTED_RETURN_TYPE_FORMAT_MSG,
+                                      returnType.getName(),
+                                      method.getName());
+                                  }
+
+                                  return null;
+                                }).filter(error -> !StringUtils.isEmpty(error))
+                                .collect(Collectors.toList());
+
+    if (!errors.isEmpty()) {
+      throw new IllegalStateException(
+        String.format(WRONG_PROXY_CONFIG_FORMAT_MSG, String.join(",", errors)));
+    }
+  }
+
+  /**
+   * Returns an unmodifiable value, converted in advance, it is not copied:
+   * a value, split when a snapshot was compiled, or nested config objects of a property group.
+   */
+  private static final class ConvertedAccessor implements PropertyAccessor {
+
+    private final Object value;
+
+    private ConvertedAccessor(Object value) {
+      this.value = value;
+    }
+
+    @Override
+    public Object value(Map<String, String> properties) {
+      return value;
+    }
+  }
+
+  /**
+   * Converts a value once, for values with indexes, that are too expensive to build on each call.
+   * The accessor is bound to the properties, it is created for.
+   */
+  private static final class MemoizedAccessor implements PropertyAccessor {
+
+    private final PropertyAccessor accessor;
+
+    private volatile Object value;
+
+    private MemoizedAccessor(PropertyAccessor accessor) {
+      this.accessor = accessor;
+    }
+
+    @Override
+    public Object value(Map<String, String> properties) {
+      Object value = this.value;
+      if (value == null) {
+        value = accessor.value(properties);
+        this.value = value;
+      }
+      return value;
+    }
+  }
+
+  /**
+   * A value, that could not be converted.
+   */
+  private static final class ConversionError {
+
+    private final String message;
+
+    private ConversionError(String message) {
+      this.message = message;
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package com.savdev.commons.config;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.FieldAccessor;
+import net.bytebuddy.implementation.MethodCall;
+import net.bytebuddy.implementation.bytecode.assign.Assigner;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static net.bytebuddy.matcher.ElementMatchers.is;
+
+/**
+ * Creates config objects as instances of classes, generated at runtime
+ * for each config interface. Each method returns its own field,
+ * filled with the converted value on the object creation,
+ * so a call is a plain virtual call without reflection or boxing.
+ * Streams and iterators are created on each call by the supplier in the field.
+ *
+ * Non public interfaces are not visible to the generated classes,
+ * they are served by immutable {@link Proxy} objects instead.
+ */
+public class GeneratedConfig implements ConfigFactory {
+
+  public static final String IMPLEMENTATION_SUFFIX = "$GeneratedConfig";
+
+  private static final String FIELD_PREFIX = "value$";
+
+  private static final ClassValue<Class<?>> IMPLEMENTATIONS = new ClassValue<Class<?>>() {
+    @Override
+    protected Class<?> computeValue(Class<?> configInterface) {
+      return implementation(configInterface);
+    }
+  };
+
+  final FileConfig fileConfig;
+
+  GeneratedConfig(FileConfig fileConfig) {
+    this.fileConfig = fileConfig;
+  }
+
+  @Override
+  public <T> T proxy(Class<T> configInterface) {
+    if (!Modifier.isPublic(configInterface.getModifiers())) {
+      return fileConfig.proxy(configInterface);
+    }
+    if (fileConfig.source instanceof ParsedSources.FileSource) {
+      ParsedSources.Parsed parsed = ((ParsedSources.FileSource) fileConfig.source).parsed();
+      return parsed.config(ParsedSources.Kind.GENERATED, configInterface,
+        () -> create(parsed.properties, configInterface));
+    }
+    return create(fileConfig.load(), configInterface);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T create(final Map<String, String> properties, final Class<T> configInterface) {
+    T compiled = FileConfig.compiled(configInterface, properties);
+    if (compiled != null) {
+      return compiled;
+    }
+    Map<Method, Object> values = FileConfig.values(properties, configInterface);
+    Class<?> implementation = IMPLEMENTATIONS.get(configInterface);
+    try {
+      Object config = implementation.getDeclaredConstructor().newInstance();
+      Method[] methods = methods(configInterface);
+      for (int i = 0; i < methods.length; i++) {
+        Field field = implementation.getDeclaredField(FIELD_PREFIX + i);
+        field.setAccessible(true);
+        field.set(config, values.get(methods[i]));
+      }
+      return (T) config;
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Could not create an instance of: " + implementation.getName(), e);
+    }
+  }
+
+  private static Class<?> implementation(Class<?> configInterface) {
+    DynamicType.Builder<Object> builder = new ByteBuddy()
+      .subclass(Object.class)
+      .name(configInterface.getName() + IMPLEMENTATION_SUFFIX)
+      .implement(configInterface);
+    Method[] methods = methods(configInterface);
+    Method get;
+    try {
+      get = Supplier.class.getMethod("get");
+    } catch (NoSuchMethodException e) {
+      throw new IllegalStateException(e);
+    }
+    for (int i = 0; i < methods.length; i++) {
+      String field = FIELD_PREFIX + i;
+      builder = FileConfig.isLazy(methods[i].getReturnType())
+        ? builder
+          .defineField(field, Supplier.class, Visibility.PRIVATE)
+          .method(is(methods[i]))
+          .intercept(MethodCall.invoke(get).onField(field).withAssigner(Assigner.DEFAULT, Assigner.Typing.DYNAMIC))
+        : builder
+          .defineField(field, methods[i].getReturnType(), Visibility.PRIVATE)
+          .method(is(methods[i]))
+          .intercept(FieldAccessor.ofField(field));
+    }
+    return builder
+      .make()
+      .load(configInterface.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+      .getLoaded();
+  }
+
+  /**
+   * Methods in a stable order, fields are named by the method positions.
+   */
+  private static Method[] methods(Class<?> configInterface) {
+    Method[] methods = configInterface.getMethods();
+    Arrays.sort(methods, Comparator.comparing(Method::toString));
+    return methods;
+  }
+}
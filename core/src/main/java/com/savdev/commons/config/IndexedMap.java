@@ -0,0 +1,34 @@
+package com.savdev.commons.config;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A map value with lookups, that do not scan its entries, for routing tables and similar values.
+ * Use it as a return type instead of {@link Map}, for instance {@code IndexedMap<List<String>>}
+ * instead of {@code Map<String, List<String>>}, values of all the map types are supported.
+ *
+ * Indexes are built once, when the value is converted, it happens on the proxy creation
+ * and on each reload of {@link ReloadableFileConfig}. The map is immutable.
+ *
+ * @param <V> type of values: a string, a list of strings, a map of strings or a map of lists
+ */
+public interface IndexedMap<V> extends Map<String, V> {
+
+  /**
+   * @return keys, that start with the prefix, in the natural order
+   */
+  List<String> keysWithPrefix(String prefix);
+
+  /**
+   * @return the longest key, that is a prefix of the value, for instance the route of a path
+   */
+  Optional<String> longestPrefixKey(String value);
+
+  /**
+   * @return keys of the entries, the value of which is, or contains the given string,
+   *         on any level of nesting, in the order of the map
+   */
+  List<String> keysOf(String value);
+}
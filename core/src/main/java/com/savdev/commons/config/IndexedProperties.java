@@ -0,0 +1,170 @@
+package com.savdev.commons.config;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.savdev.commons.config.PropertiesParser.decode;
+import static com.savdev.commons.config.PropertiesParser.lineEnd;
+import static com.savdev.commons.config.PropertiesParser.skipContinuations;
+import static com.savdev.commons.config.PropertiesParser.skipSeparator;
+import static com.savdev.commons.config.PropertiesParser.skipWhitespace;
+
+/**
+ * Read-only properties, indexed in a buffer with the {@link java.util.Properties} file format,
+ * decoded the same way as by {@link PropertiesParser}.
+ *
+ * Loading decodes only keys and remembers where their values start.
+ * A value is decoded on the first access and is kept for next ones,
+ * so values, that are never read, take no heap.
+ * The buffer is read only with absolute gets, so concurrent reads are safe.
+ *
+ * A mapped file could be rewritten or truncated later, then the mapping has other content
+ * or reading it crashes the JVM. So the properties are read only while config objects are created,
+ * then the values, they use, are copied by {@link #copyOf(Collection)}.
+ */
+final class IndexedProperties extends AbstractMap<String, String> {
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final ByteBuffer buffer;
+
+  private final Map<String, Integer> index;
+
+  private final int[] valueStarts;
+
+  private final AtomicReferenceArray<String> values;
+
+  private IndexedProperties(ByteBuffer buffer, Map<String, Integer> index, int[] valueStarts) {
+    this.buffer = buffer;
+    this.index = index;
+    this.valueStarts = valueStarts;
+    this.values = new AtomicReferenceArray<>(valueStarts.length);
+  }
+
+  static IndexedProperties map(final Path file) {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IllegalStateException("File is too large to be mapped: " + file);
+      }
+      return of(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    } catch (IOException e) {
+      throw new IllegalStateException("Could not load file: " + file, e);
+    }
+  }
+
+  static IndexedProperties of(final ByteBuffer buffer) {
+    Map<String, Integer> index = new HashMap<>();
+    int[] valueStarts = new int[INITIAL_CAPACITY];
+    int entries = 0;
+    StringBuilder key = new StringBuilder();
+    int limit = buffer.limit();
+    int position = 0;
+    while (position < limit) {
+      position = skipContinuations(buffer, skipWhitespace(buffer, position, limit), limit);
+      if (position == limit) {
+        break;
+      }
+      byte first = buffer.get(position);
+      if (first == '\n' || first == '\r') {
+        position++;
+        continue;
+      }
+      if (first == '#' || first == '!') {
+        position = lineEnd(buffer, position, limit);
+        continue;
+      }
+      key.setLength(0);
+      position = decode(buffer, position, limit, key, true);
+      position = skipSeparator(buffer, position, limit);
+      if (entries == valueStarts.length) {
+        valueStarts = Arrays.copyOf(valueStarts, entries * 2);
+      }
+      valueStarts[entries] = position;
+      index.put(key.toString(), entries++);
+      position = decode(buffer, position, limit, null, false);
+    }
+    return new IndexedProperties(buffer, index, Arrays.copyOf(valueStarts, entries));
+  }
+
+  @Override
+  public String get(Object key) {
+    Integer entry = index.get(key);
+    if (entry == null) {
+      return null;
+    }
+    String value = values.get(entry);
+    if (value == null) {
+      StringBuilder decoded = new StringBuilder();
+      decode(buffer, valueStarts[entry], buffer.limit(), decoded, false);
+      value = decoded.toString();
+      values.set(entry, value);
+    }
+    return value;
+  }
+
+  /**
+   * @return decoded values of the keys, that exist, the result does not refer to the buffer
+   */
+  PropertyTable copyOf(final Collection<String> keys) {
+    String[] copiedKeys = new String[keys.size()];
+    String[] copiedValues = new String[keys.size()];
+    int entries = 0;
+    for (String key : keys) {
+      String value = get(key);
+      if (value != null) {
+        copiedKeys[entries] = key;
+        copiedValues[entries++] = value;
+      }
+    }
+    return PropertyTable.of(copiedKeys, copiedValues, entries);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return index.containsKey(key);
+  }
+
+  @Override
+  public int size() {
+    return index.size();
+  }
+
+  @Override
+  public Set<Entry<String, String>> entrySet() {
+    return new AbstractSet<Entry<String, String>>() {
+      @Override
+      public Iterator<Entry<String, String>> iterator() {
+        Iterator<String> keys = index.keySet().iterator();
+        return new Iterator<Entry<String, String>>() {
+          @Override
+          public boolean hasNext() {
+            return keys.hasNext();
+          }
+
+          @Override
+          public Entry<String, String> next() {
+            String key = keys.next();
+            return new SimpleImmutableEntry<>(key, get(key));
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return index.size();
+      }
+    };
+  }
+}
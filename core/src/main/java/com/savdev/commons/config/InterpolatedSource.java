@@ -0,0 +1,293 @@
+package com.savdev.commons.config;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static com.savdev.commons.config.PropertySources.CYCLIC_REFERENCES_FORMAT_MSG;
+import static com.savdev.commons.config.PropertySources.NOT_EXISTING_REFERENCE_FORMAT_MSG;
+
+/**
+ * Resolves {@code ${key}}, {@code ${sys:name}} and {@code ${env:NAME}} references in values of a source,
+ * once per load of the source, see {@link PropertySources#interpolated(PropertySource)}.
+ *
+ * Values with references are resolved in the topological order of their dependency graph,
+ * so each value is built once. The graph and the resolved values of the last load are kept:
+ * if the source returns the same properties and referenced system properties and environment variables
+ * are not changed, the same resolved properties are returned. Otherwise only values, which are changed,
+ * or depend, directly or transitively, on changed values, are resolved again.
+ */
+final class InterpolatedSource implements PropertySource {
+
+  private static final String REFERENCE_START = "${";
+
+  private static final char REFERENCE_END = '}';
+
+  private static final String SYSTEM_PROPERTY = "sys:";
+
+  private static final String ENVIRONMENT_VARIABLE = "env:";
+
+  private final PropertySource source;
+
+  private State state;
+
+  /**
+   * Number of values, resolved by the last load, other values with references are taken from the previous load.
+   */
+  int lastResolvedValues;
+
+  InterpolatedSource(PropertySource source) {
+    this.source = source;
+  }
+
+  @Override
+  public synchronized Map<String, String> properties() {
+    Map<String, String> properties = source.properties();
+    State previous = state;
+    if (previous != null && previous.properties == properties && !previous.externalChanged()) {
+      return previous.resolved;
+    }
+    state = resolve(properties, previous);
+    return state.resolved;
+  }
+
+  @Override
+  public Collection<Path> files() {
+    return source.files();
+  }
+
+  private State resolve(final Map<String, String> properties, final State previous) {
+    Map<String, Template> templates = new HashMap<>();
+    Map<String, Set<String>> dependents = new HashMap<>();
+    properties.forEach((key, value) -> {
+      Template template = previous != null && value.equals(previous.properties.get(key))
+        ? previous.templates.get(key)
+        : Template.parse(value);
+      if (template != null) {
+        templates.put(key, template);
+        template.keys.forEach(reference ->
+          dependents.computeIfAbsent(reference, k -> new HashSet<>()).add(key));
+      }
+    });
+
+    Deque<String> changed = new ArrayDeque<>();
+    if (previous == null) {
+      changed.addAll(templates.keySet());
+    } else {
+      properties.forEach((key, value) -> {
+        if (!value.equals(previous.properties.get(key))) {
+          changed.add(key);
+        }
+      });
+      previous.properties.keySet().stream()
+                         .filter(key -> !properties.containsKey(key))
+                         .forEach(changed::add);
+      templates.forEach((key, template) -> {
+        if (template.external.stream().anyMatch(previous::externalChanged)) {
+          changed.add(key);
+        }
+      });
+    }
+    Set<String> dirty = new LinkedHashSet<>();
+    while (!changed.isEmpty()) {
+      String key = changed.poll();
+      if (templates.containsKey(key) && !dirty.add(key)) {
+        continue;
+      }
+      changed.addAll(dependents.getOrDefault(key, Collections.emptySet()));
+    }
+
+    Map<String, String> resolved = new HashMap<>(properties);
+    if (previous != null) {
+      templates.keySet().stream()
+               .filter(key -> !dirty.contains(key))
+               .forEach(key -> resolved.put(key, previous.resolved.get(key)));
+    }
+    Map<String, String> external = new HashMap<>();
+    templates.values().forEach(template -> template.external.forEach(reference ->
+      external.put(reference, externalValue(reference))));
+
+    //Kahn's algorithm over the changed values, a value is resolved after the values it references
+    Map<String, Integer> unresolvedReferences = new HashMap<>();
+    Deque<String> ready = new ArrayDeque<>();
+    for (String key : dirty) {
+      int references = (int) templates.get(key).keys.stream().filter(dirty::contains).count();
+      unresolvedReferences.put(key, references);
+      if (references == 0) {
+        ready.add(key);
+      }
+    }
+    int resolvedValues = 0;
+    while (!ready.isEmpty()) {
+      String key = ready.poll();
+      resolved.put(key, templates.get(key).resolve(key, resolved, external));
+      resolvedValues++;
+      for (String dependent : dependents.getOrDefault(key, Collections.emptySet())) {
+        Integer references = unresolvedReferences.get(dependent);
+        if (references != null && unresolvedReferences.put(dependent, references - 1) == 1) {
+          ready.add(dependent);
+        }
+      }
+    }
+    if (resolvedValues < dirty.size()) {
+      throw new IllegalStateException(String.format(CYCLIC_REFERENCES_FORMAT_MSG,
+        cycle(templates, dirty, unresolvedReferences)));
+    }
+    this.lastResolvedValues = resolvedValues;
+    return new State(properties, templates, PropertyTable.copyOf(resolved), external);
+  }
+
+  /**
+   * @return a cycle among the values, that could not be resolved, for instance {@code a -> b -> a}
+   */
+  private static String cycle(
+    final Map<String, Template> templates,
+    final Set<String> dirty,
+    final Map<String, Integer> unresolvedReferences) {
+    List<String> path = new ArrayList<>();
+    String key = dirty.stream().filter(k -> unresolvedReferences.get(k) > 0).findFirst().orElse(null);
+    while (!path.contains(key)) {
+      path.add(key);
+      key = templates.get(key).keys.stream()
+                     .filter(reference -> dirty.contains(reference) && unresolvedReferences.get(reference) > 0)
+                     .findFirst()
+                     .orElse(null);
+    }
+    List<String> cycle = new ArrayList<>(path.subList(path.indexOf(key), path.size()));
+    cycle.add(key);
+    return String.join(" -> ", cycle);
+  }
+
+  /**
+   * @return the value of a system property or an environment variable, {@code null} if it does not exist
+   */
+  private static String externalValue(final String reference) {
+    return reference.startsWith(SYSTEM_PROPERTY)
+      ? System.getProperty(reference.substring(SYSTEM_PROPERTY.length()))
+      : System.getenv(reference.substring(ENVIRONMENT_VARIABLE.length()));
+  }
+
+  /**
+   * A value, split into literal parts and references.
+   */
+  private static final class Template {
+
+    /**
+     * Literal parts at even and references at odd indexes.
+     */
+    private final String[] parts;
+
+    /**
+     * Referenced property keys.
+     */
+    private final Set<String> keys;
+
+    /**
+     * Referenced system properties and environment variables, with their prefixes.
+     */
+    private final Set<String> external;
+
+    private Template(String[] parts, Set<String> keys, Set<String> external) {
+      this.parts = parts;
+      this.keys = keys;
+      this.external = external;
+    }
+
+    /**
+     * @return the template, {@code null} if the value has no references
+     */
+    private static Template parse(final String value) {
+      int start = value.indexOf(REFERENCE_START);
+      if (start < 0) {
+        return null;
+      }
+      List<String> parts = new ArrayList<>();
+      Set<String> keys = new LinkedHashSet<>();
+      Set<String> external = new LinkedHashSet<>();
+      int literalStart = 0;
+      while (start >= 0) {
+        int end = value.indexOf(REFERENCE_END, start + REFERENCE_START.length());
+        if (end < 0) {
+          break;
+        }
+        String reference = value.substring(start + REFERENCE_START.length(), end);
+        parts.add(value.substring(literalStart, start));
+        parts.add(reference);
+        if (reference.startsWith(SYSTEM_PROPERTY) || reference.startsWith(ENVIRONMENT_VARIABLE)) {
+          external.add(reference);
+        } else {
+          keys.add(reference);
+        }
+        literalStart = end + 1;
+        start = value.indexOf(REFERENCE_START, literalStart);
+      }
+      if (parts.isEmpty()) {
+        return null;
+      }
+      parts.add(value.substring(literalStart));
+      return new Template(parts.toArray(new String[0]), keys, external);
+    }
+
+    private String resolve(
+      final String key,
+      final Map<String, String> resolved,
+      final Map<String, String> external) {
+      StringBuilder value = new StringBuilder(parts[0]);
+      for (int part = 1; part < parts.length; part += 2) {
+        String reference = parts[part];
+        String referenced = this.external.contains(reference) ? external.get(reference) : resolved.get(reference);
+        if (referenced == null) {
+          throw new IllegalStateException(String.format(NOT_EXISTING_REFERENCE_FORMAT_MSG, key, reference));
+        }
+        value.append(referenced).append(parts[part + 1]);
+      }
+      return value.toString();
+    }
+  }
+
+  /**
+   * Properties of the last load, their templates and resolved values.
+   */
+  private static final class State {
+
+    private final Map<String, String> properties;
+
+    private final Map<String, Template> templates;
+
+    private final Map<String, String> resolved;
+
+    /**
+     * Values of referenced system properties and environment variables.
+     */
+    private final Map<String, String> external;
+
+    private State(
+      Map<String, String> properties,
+      Map<String, Template> templates,
+      Map<String, String> resolved,
+      Map<String, String> external) {
+      this.properties = properties;
+      this.templates = templates;
+      this.resolved = resolved;
+      this.external = external;
+    }
+
+    private boolean externalChanged() {
+      return external.keySet().stream().anyMatch(this::externalChanged);
+    }
+
+    private boolean externalChanged(final String reference) {
+      return !Objects.equals(external.get(reference), externalValue(reference));
+    }
+  }
+}
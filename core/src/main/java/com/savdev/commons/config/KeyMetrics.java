@@ -0,0 +1,65 @@
+package com.savdev.commons.config;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * Metrics of a property key at the moment they were taken.
+ */
+public final class KeyMetrics {
+
+  private final String key;
+
+  private final long calls;
+
+  private final long conversions;
+
+  private final long conversionTimeNanos;
+
+  private final int valueSize;
+
+  @ConstructorProperties({"key", "calls", "conversions", "conversionTimeNanos", "valueSize"})
+  public KeyMetrics(String key, long calls, long conversions, long conversionTimeNanos, int valueSize) {
+    this.key = key;
+    this.calls = calls;
+    this.conversions = conversions;
+    this.conversionTimeNanos = conversionTimeNanos;
+    this.valueSize = valueSize;
+  }
+
+  public String getKey() {
+    return key;
+  }
+
+  /**
+   * @return calls of config methods, bound to the key
+   */
+  public long getCalls() {
+    return calls;
+  }
+
+  /**
+   * @return conversions of the value, once per call for lazy proxies,
+   *         once per proxy creation for immutable ones
+   */
+  public long getConversions() {
+    return conversions;
+  }
+
+  public long getConversionTimeNanos() {
+    return conversionTimeNanos;
+  }
+
+  /**
+   * @return the number of items or entries of the last converted list or map,
+   *         {@code -1} for other values
+   */
+  public int getValueSize() {
+    return valueSize;
+  }
+
+  @Override
+  public String toString() {
+    return key + ": calls=" + calls + ", conversions=" + conversions
+      + ", conversionTimeNanos=" + conversionTimeNanos + ", valueSize=" + valueSize;
+  }
+}
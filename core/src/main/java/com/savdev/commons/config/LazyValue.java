@@ -0,0 +1,65 @@
+package com.savdev.commons.config;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A value of a return type, that could be consumed only once, like a stream or an iterator.
+ * Config objects keep it instead of the converted value and create the converted value on each call,
+ * from the property value.
+ *
+ * Lazy values are equal, when their property values are equal and they are converted the same way.
+ */
+final class LazyValue<T> implements Supplier<T> {
+
+  private final String value;
+
+  /**
+   * The return type and separators of the conversion.
+   */
+  private final List<String> conversion;
+
+  private final Function<String, T> converter;
+
+  LazyValue(String value, List<String> conversion, Function<String, T> converter) {
+    this.value = value;
+    this.conversion = conversion;
+    this.converter = converter;
+  }
+
+  @Override
+  public T get() {
+    return converter.apply(value);
+  }
+
+  /**
+   * @return the value, that a config method returns for the kept value
+   */
+  static Object value(final Object value) {
+    return value instanceof LazyValue ? ((LazyValue<?>) value).get() : value;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof LazyValue)) {
+      return false;
+    }
+    LazyValue<?> lazyValue = (LazyValue<?>) other;
+    return Objects.equals(value, lazyValue.value) && conversion.equals(lazyValue.conversion);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(value, conversion);
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(value);
+  }
+}
@@ -0,0 +1,202 @@
+package com.savdev.commons.config;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Process-wide cache of parsed property files, keyed by the real path of a file.
+ *
+ * A file is parsed once and the parsed table is shared by all the factories of the file.
+ * Config objects are cached per interface in the parsed entry, so next {@code proxy()} calls
+ * for the same interface, on the same or another factory, return the same object.
+ * An entry is evicted with all its config objects, when the modification time
+ * or the size of the file is changed.
+ *
+ * The cache does not keep classes of config interfaces, so it does not prevent unloading
+ * of an application, that created config objects: config objects are weakly referenced.
+ * An entry is softly referenced, it is kept, while a source of the file refers to it,
+ * and otherwise, until the memory is needed.
+ */
+final class ParsedSources {
+
+  /**
+   * Kinds of config objects, that a factory creates for an interface.
+   */
+  enum Kind {
+    PROXY,
+    IMMUTABLE_PROXY,
+    GENERATED
+  }
+
+  private static final Map<Path, Reference<Parsed>> PARSED = new ConcurrentHashMap<>();
+
+  private ParsedSources() {
+  }
+
+  /**
+   * @return the parsed file, the file is parsed again if it was changed since the last parsing
+   */
+  static Parsed parsed(final Path file) {
+    Path realPath = realPath(file);
+    Stamp stamp = stamp(realPath);
+    Parsed[] result = new Parsed[1];
+    PARSED.compute(realPath, (path, reference) -> {
+      Parsed parsed = reference != null ? reference.get() : null;
+      if (parsed != null && parsed.stamp.equals(stamp)) {
+        result[0] = parsed;
+        return reference;
+      }
+      result[0] = new Parsed(stamp, load(path));
+      return new SoftReference<>(result[0]);
+    });
+    return result[0];
+  }
+
+  static void evict(final Collection<Path> files) {
+    for (Path file : files) {
+      if (Files.exists(file)) {
+        PARSED.remove(realPath(file));
+      }
+    }
+  }
+
+  private static Map<String, String> load(final Path file) {
+    try {
+      return PropertiesParser.load(file);
+    } catch (IOException e) {
+      throw new IllegalStateException("Could not load file: " + file, e);
+    }
+  }
+
+  private static Path realPath(final Path file) {
+    try {
+      return file.toRealPath();
+    } catch (IOException e) {
+      throw new IllegalStateException("Could not load file: " + file.toAbsolutePath(), e);
+    }
+  }
+
+  private static Stamp stamp(final Path file) {
+    try {
+      BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+      return new Stamp(attributes.lastModifiedTime(), attributes.size());
+    } catch (IOException e) {
+      throw new IllegalStateException("Could not load file: " + file, e);
+    }
+  }
+
+  /**
+   * A source of a single file, loaded via the cache.
+   */
+  static final class FileSource implements PropertySource {
+
+    private final Path file;
+
+    /**
+     * The last parsed version of the file, it keeps the cache entry, while the source is used.
+     */
+    private volatile Parsed parsed;
+
+    FileSource(Path file) {
+      this.file = file.toAbsolutePath();
+    }
+
+    Parsed parsed() {
+      Parsed current = ParsedSources.parsed(file);
+      parsed = current;
+      return current;
+    }
+
+    @Override
+    public Map<String, String> properties() {
+      return parsed().properties;
+    }
+
+    @Override
+    public Collection<Path> files() {
+      return Collections.singletonList(file);
+    }
+  }
+
+  /**
+   * Parsed properties of a file version and config objects, created for them.
+   */
+  static final class Parsed {
+
+    final Map<String, String> properties;
+
+    private final Stamp stamp;
+
+    /**
+     * A config object refers to its interface, so both keys and values are weak,
+     * otherwise the interface could not be unloaded.
+     */
+    private final Map<Kind, Cache<Class<?>, Object>> configs = new EnumMap<>(Kind.class);
+
+    private Parsed(Stamp stamp, Map<String, String> properties) {
+      this.stamp = stamp;
+      this.properties = properties;
+      for (Kind kind : Kind.values()) {
+        configs.put(kind, CacheBuilder.newBuilder().weakKeys().weakValues().build());
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T config(final Kind kind, final Class<T> configInterface, final Supplier<T> factory) {
+      try {
+        return (T) configs.get(kind).get(configInterface, factory::get);
+      } catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+        Throwables.propagateIfPossible(e.getCause());
+        throw new IllegalStateException(e.getCause());
+      }
+    }
+  }
+
+  private static final class Stamp {
+
+    private final FileTime lastModified;
+
+    private final long size;
+
+    private Stamp(FileTime lastModified, long size) {
+      this.lastModified = lastModified;
+      this.size = size;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Stamp)) {
+        return false;
+      }
+      Stamp stamp = (Stamp) o;
+      return size == stamp.size && lastModified.equals(stamp.lastModified);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(lastModified, size);
+    }
+  }
+}
@@ -0,0 +1,122 @@
+package com.savdev.commons.config;
+
+import com.google.common.collect.ImmutableMap;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * Validates config interfaces and converts all their values at once, when the factory is created.
+ *
+ * Sources are loaded, interfaces are validated and values of their methods are converted
+ * as parallel tasks of a fork-join pool, so startup with many large interfaces scales with cores.
+ * Errors of all the interfaces are reported together by one exception.
+ * Config objects are immutable, the same way as {@link Configs#immutableFileConfig} proxies.
+ */
+public class PreloadedConfig implements ConfigFactory {
+
+  public static final String WRONG_CONFIGS_FORMAT_MSG =
+    "Configuration interfaces are not valid. Errors: %s";
+
+  public static final String WRONG_CONFIG_FORMAT_MSG =
+    "%s: %s";
+
+  public static final String NOT_PRELOADED_FORMAT_MSG =
+    "Configuration interface: '%s' is not preloaded.";
+
+  private final Map<Class<?>, Object> configs;
+
+  PreloadedConfig(Map<Class<?>, PropertySource> sources, ForkJoinPool pool) {
+    List<Result> results = pool.submit(() -> load(sources)).join();
+    List<String> errors = results.stream()
+                                 .filter(result -> result.error != null)
+                                 .map(result -> String.format(WRONG_CONFIG_FORMAT_MSG,
+                                   result.configInterface.getName(), result.error))
+                                 .collect(Collectors.toList());
+    if (!errors.isEmpty()) {
+      throw new IllegalStateException(
+        String.format(WRONG_CONFIGS_FORMAT_MSG, String.join(",", errors)));
+    }
+    ImmutableMap.Builder<Class<?>, Object> configs = ImmutableMap.builder();
+    results.forEach(result -> configs.put(result.configInterface, result.config));
+    this.configs = configs.build();
+  }
+
+  @Override
+  public <T> T proxy(Class<T> configInterface) {
+    Object config = configs.get(configInterface);
+    if (config == null) {
+      throw new IllegalStateException(
+        String.format(NOT_PRELOADED_FORMAT_MSG, configInterface.getName()));
+    }
+    return configInterface.cast(config);
+  }
+
+  /**
+   * Runs in the pool. Errors are returned, not thrown, so they are reported
+   * by the calling thread with their original messages.
+   */
+  private static List<Result> load(final Map<Class<?>, PropertySource> sources) {
+    Map<PropertySource, Object> loaded = new IdentityHashMap<>();
+    sources.values().forEach(source -> loaded.put(source, null));
+    List<PropertySource> distinct = new ArrayList<>(loaded.keySet());
+    List<Object> properties = distinct.parallelStream()
+                                      .map(PreloadedConfig::properties)
+                                      .collect(Collectors.toList());
+    for (int i = 0; i < distinct.size(); i++) {
+      loaded.put(distinct.get(i), properties.get(i));
+    }
+    return sources.entrySet().parallelStream()
+                  .map(entry -> result(entry.getKey(), loaded.get(entry.getValue())))
+                  .collect(Collectors.toList());
+  }
+
+  /**
+   * @return loaded properties or the load error
+   */
+  private static Object properties(final PropertySource source) {
+    try {
+      return source.properties();
+    } catch (RuntimeException e) {
+      return e;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Result result(final Class<?> configInterface, final Object properties) {
+    if (properties instanceof RuntimeException) {
+      return new Result(configInterface, null, ((RuntimeException) properties).getMessage());
+    }
+    try {
+      Map<String, String> propsAsMap = (Map<String, String>) properties;
+      Object compiled = FileConfig.compiled(configInterface, propsAsMap);
+      if (compiled != null) {
+        return new Result(configInterface, compiled, null);
+      }
+      return new Result(configInterface,
+        FileConfig.immutableProxy(configInterface, FileConfig.values(propsAsMap, configInterface, true)),
+        null);
+    } catch (RuntimeException e) {
+      return new Result(configInterface, null, e.getMessage());
+    }
+  }
+
+  private static final class Result {
+
+    private final Class<?> configInterface;
+
+    private final Object config;
+
+    private final String error;
+
+    private Result(Class<?> configInterface, Object config, String error) {
+      this.configInterface = configInterface;
+      this.config = config;
+      this.error = error;
+    }
+  }
+}
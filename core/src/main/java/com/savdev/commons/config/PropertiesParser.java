@@ -0,0 +1,350 @@
+package com.savdev.commons.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Parser of the {@link java.util.Properties} file format, that decodes UTF-8 bytes.
+ *
+ * The format is the same as for {@link java.util.Properties#load(java.io.Reader)}: comments, line continuations,
+ * key terminators and escapes, including {@code \\uxxxx}. A byte, that does not start a valid UTF-8 sequence,
+ * is an ISO-8859-1 character, so ISO-8859-1 files are read as by {@link java.util.Properties#load(InputStream)},
+ * unless their non-ASCII characters form valid UTF-8 sequences.
+ *
+ * Keys and values are collected into arrays and the table is built once, without a {@link java.util.Hashtable}.
+ * A key or a value without escapes and non-ASCII bytes, which most of them are,
+ * is copied from the buffer into a string at once, without per character decoding.
+ * A buffer is read only with absolute gets, so the same buffer could be parsed concurrently.
+ */
+final class PropertiesParser {
+
+  static final String MALFORMED_UNICODE_ESCAPE_MSG = "Malformed \\uxxxx encoding.";
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private static final int INITIAL_STREAM_BUFFER = 8192;
+
+  private PropertiesParser() {
+  }
+
+  /**
+   * The stream is read into an array, sized by {@link InputStream#available()}, and parsed in place.
+   */
+  static PropertyTable load(final InputStream inputStream) throws IOException {
+    byte[] bytes = new byte[Math.max(inputStream.available() + 1, INITIAL_STREAM_BUFFER)];
+    int length = 0;
+    int read;
+    while ((read = inputStream.read(bytes, length, bytes.length - length)) >= 0) {
+      length += read;
+      if (length == bytes.length) {
+        bytes = Arrays.copyOf(bytes, bytes.length * 2);
+      }
+    }
+    return parse(ByteBuffer.wrap(bytes), 0, length);
+  }
+
+  static PropertyTable load(final Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IOException("File is too large to be loaded: " + file);
+      }
+      ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+      while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+        //the file is read until the buffer is full or the end of the file
+      }
+      return parse(buffer, 0, buffer.position());
+    }
+  }
+
+  static PropertyTable parse(final ByteBuffer buffer) {
+    return parse(buffer, buffer.position(), buffer.limit());
+  }
+
+  private static PropertyTable parse(final ByteBuffer buffer, final int from, final int limit) {
+    String[] keys = new String[INITIAL_CAPACITY];
+    String[] values = new String[INITIAL_CAPACITY];
+    int entries = 0;
+    StringBuilder decoded = new StringBuilder();
+    int position = from;
+    while (position < limit) {
+      //a logical line could start with continuations, it is still a comment or an empty line then
+      position = skipContinuations(buffer, skipWhitespace(buffer, position, limit), limit);
+      if (position == limit) {
+        break;
+      }
+      byte first = buffer.get(position);
+      if (first == '\n' || first == '\r') {
+        position++;
+        continue;
+      }
+      if (first == '#' || first == '!') {
+        position = lineEnd(buffer, position, limit);
+        continue;
+      }
+      String key;
+      int keyEnd = plainEnd(buffer, position, limit, true);
+      if (keyEnd >= 0) {
+        key = string(buffer, position, keyEnd);
+        position = keyEnd;
+      } else {
+        decoded.setLength(0);
+        position = decode(buffer, position, limit, decoded, true);
+        key = decoded.toString();
+      }
+      position = skipSeparator(buffer, position, limit);
+      String value;
+      int valueEnd = plainEnd(buffer, position, limit, false);
+      if (valueEnd >= 0) {
+        value = string(buffer, position, valueEnd);
+        position = valueEnd;
+      } else {
+        decoded.setLength(0);
+        position = decode(buffer, position, limit, decoded, false);
+        value = decoded.toString();
+      }
+      if (entries == keys.length) {
+        keys = Arrays.copyOf(keys, entries * 2);
+        values = Arrays.copyOf(values, entries * 2);
+      }
+      keys[entries] = key;
+      values[entries++] = value;
+    }
+    return PropertyTable.of(keys, values, entries);
+  }
+
+  /**
+   * Decodes a key or a value of a logical line: escapes are replaced,
+   * continuation lines are joined without their leading whitespace.
+   *
+   * @param out decoded characters, {@code null} if the characters are skipped
+   * @param key if {@code true} decoding stops on the first not escaped key terminator
+   * @return the position after the decoded characters
+   */
+  static int decode(
+    final ByteBuffer buffer,
+    int position,
+    final int limit,
+    final StringBuilder out,
+    final boolean key) {
+    while (position < limit) {
+      int b = buffer.get(position) & 0xFF;
+      if (b == '\n' || b == '\r') {
+        return position;
+      }
+      if (key && isKeyTerminator(b)) {
+        return position;
+      }
+      if (b >= 0x80) {
+        position = decodeCharacter(buffer, position, limit, out);
+        continue;
+      }
+      position++;
+      if (b != '\\') {
+        append(out, (char) b);
+        continue;
+      }
+      if (position == limit) {
+        return position;
+      }
+      int escaped = buffer.get(position) & 0xFF;
+      if (escaped >= 0x80) {
+        position = decodeCharacter(buffer, position, limit, out);
+        continue;
+      }
+      position++;
+      switch (escaped) {
+        case '\r':
+          if (position < limit && buffer.get(position) == '\n') {
+            position++;
+          }
+          position = skipWhitespace(buffer, position, limit);
+          break;
+        case '\n':
+          position = skipWhitespace(buffer, position, limit);
+          break;
+        case 'u':
+          int unicode = 0;
+          for (int i = 0; i < 4; i++) {
+            //digits of an escape could be split by a continuation as well
+            position = skipContinuations(buffer, position, limit);
+            if (position == limit) {
+              throw new IllegalArgumentException(MALFORMED_UNICODE_ESCAPE_MSG);
+            }
+            int digit = Character.digit((char) (buffer.get(position++) & 0xFF), 16);
+            if (digit < 0) {
+              throw new IllegalArgumentException(MALFORMED_UNICODE_ESCAPE_MSG);
+            }
+            unicode = (unicode << 4) + digit;
+          }
+          append(out, (char) unicode);
+          break;
+        case 't':
+          append(out, '\t');
+          break;
+        case 'n':
+          append(out, '\n');
+          break;
+        case 'r':
+          append(out, '\r');
+          break;
+        case 'f':
+          append(out, '\f');
+          break;
+        default:
+          append(out, (char) escaped);
+      }
+    }
+    return position;
+  }
+
+  static int skipWhitespace(final ByteBuffer buffer, int position, final int limit) {
+    while (position < limit) {
+      byte b = buffer.get(position);
+      if (b != ' ' && b != '\t' && b != '\f') {
+        break;
+      }
+      position++;
+    }
+    return position;
+  }
+
+  /**
+   * Skips whitespace between a key and a value, with one {@code =} or {@code :} in it,
+   * continuation lines are joined.
+   */
+  static int skipSeparator(final ByteBuffer buffer, int position, final int limit) {
+    position = skipContinuations(buffer, skipWhitespace(buffer, position, limit), limit);
+    if (position < limit && (buffer.get(position) == '=' || buffer.get(position) == ':')) {
+      position = skipContinuations(buffer, skipWhitespace(buffer, position + 1, limit), limit);
+    }
+    return position;
+  }
+
+  /**
+   * Skips backslashes, that end physical lines, with the line ends and leading whitespace of the next lines.
+   * As for {@link java.util.Properties}, a line end, that is the last byte, ends the logical line instead.
+   */
+  static int skipContinuations(final ByteBuffer buffer, int position, final int limit) {
+    while (position + 2 < limit && buffer.get(position) == '\\') {
+      byte next = buffer.get(position + 1);
+      if (next == '\r' && position + 2 < limit && buffer.get(position + 2) == '\n') {
+        position += 3;
+      } else if (next == '\r' || next == '\n') {
+        position += 2;
+      } else {
+        break;
+      }
+      position = skipWhitespace(buffer, position, limit);
+    }
+    return position;
+  }
+
+  static int lineEnd(final ByteBuffer buffer, int position, final int limit) {
+    while (position < limit && buffer.get(position) != '\n' && buffer.get(position) != '\r') {
+      position++;
+    }
+    return position;
+  }
+
+  /**
+   * @return the end of a key or a value, that has neither escapes nor non-ASCII bytes,
+   *         {@code -1} if it has them and has to be decoded
+   */
+  private static int plainEnd(final ByteBuffer buffer, int position, final int limit, final boolean key) {
+    while (position < limit) {
+      int b = buffer.get(position);
+      if (b == '\n' || b == '\r' || key && isKeyTerminator(b)) {
+        return position;
+      }
+      if (b == '\\' || b < 0) {
+        return -1;
+      }
+      position++;
+    }
+    return position;
+  }
+
+  /**
+   * @return ASCII characters of the range
+   */
+  private static String string(final ByteBuffer buffer, final int from, final int to) {
+    if (buffer.hasArray()) {
+      return new String(buffer.array(), buffer.arrayOffset() + from, to - from, StandardCharsets.ISO_8859_1);
+    }
+    byte[] bytes = new byte[to - from];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = buffer.get(from + i);
+    }
+    return new String(bytes, StandardCharsets.ISO_8859_1);
+  }
+
+  /**
+   * Decodes a UTF-8 sequence, or a single byte as an ISO-8859-1 character, if the sequence is not valid.
+   *
+   * @return the position after the decoded bytes
+   */
+  private static int decodeCharacter(
+    final ByteBuffer buffer,
+    final int position,
+    final int limit,
+    final StringBuilder out) {
+    int first = buffer.get(position) & 0xFF;
+    int length;
+    int codePoint;
+    int minCodePoint;
+    if ((first & 0xE0) == 0xC0) {
+      length = 2;
+      codePoint = first & 0x1F;
+      minCodePoint = 0x80;
+    } else if ((first & 0xF0) == 0xE0) {
+      length = 3;
+      codePoint = first & 0x0F;
+      minCodePoint = 0x800;
+    } else if ((first & 0xF8) == 0xF0) {
+      length = 4;
+      codePoint = first & 0x07;
+      minCodePoint = 0x10000;
+    } else {
+      length = 0;
+      codePoint = 0;
+      minCodePoint = 0;
+    }
+    if (length > 0 && position + length <= limit) {
+      int index = 1;
+      for (; index < length; index++) {
+        int next = buffer.get(position + index) & 0xFF;
+        if ((next & 0xC0) != 0x80) {
+          break;
+        }
+        codePoint = (codePoint << 6) | (next & 0x3F);
+      }
+      if (index == length
+        && codePoint >= minCodePoint
+        && codePoint <= Character.MAX_CODE_POINT
+        && !(codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+        if (out != null) {
+          out.appendCodePoint(codePoint);
+        }
+        return position + length;
+      }
+    }
+    append(out, (char) first);
+    return position + 1;
+  }
+
+  private static boolean isKeyTerminator(final int b) {
+    return b == '=' || b == ':' || b == ' ' || b == '\t' || b == '\f';
+  }
+
+  private static void append(final StringBuilder out, final char c) {
+    if (out != null) {
+      out.append(c);
+    }
+  }
+}
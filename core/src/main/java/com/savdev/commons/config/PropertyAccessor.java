@@ -0,0 +1,15 @@
+package com.savdev.commons.config;
+
+import java.util.Map;
+
+/**
+ * Prebuilt reader of a single config method value.
+ * Created once per method when a proxy is built, so a call on the proxy
+ * does not need to inspect the method annotations or return type again.
+ */
+@FunctionalInterface
+interface PropertyAccessor {
+
+  Object value(Map<String, String> properties);
+
+}
@@ -0,0 +1,48 @@
+package com.savdev.commons.config;
+
+import java.lang.reflect.Method;
+
+/**
+ * Old and new value of a config method, converted to its return type.
+ */
+public class PropertyChange {
+
+  private final String key;
+
+  private final Method method;
+
+  private final Object oldValue;
+
+  private final Object newValue;
+
+  PropertyChange(String key, Method method, Object oldValue, Object newValue) {
+    this.key = key;
+    this.method = method;
+    this.oldValue = oldValue;
+    this.newValue = newValue;
+  }
+
+  /**
+   * @return the {@link PropertyKey} value of the method
+   */
+  public String getKey() {
+    return key;
+  }
+
+  public Method getMethod() {
+    return method;
+  }
+
+  public Object getOldValue() {
+    return oldValue;
+  }
+
+  public Object getNewValue() {
+    return newValue;
+  }
+
+  @Override
+  public String toString() {
+    return key + ": '" + oldValue + "' -> '" + newValue + "'";
+  }
+}
@@ -0,0 +1,30 @@
+package com.savdev.commons.config;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+
+/**
+ * Binds keys with a prefix to a nested config interface, instead of a {@link PropertyKey} value.
+ *
+ * For a nested config interface, {@code db.primary.url} is the {@code url} key of the nested interface
+ * of the {@code db.primary} group. For {@code List} and {@code Map<String, ?>} of a nested config interface,
+ * the keys are grouped by their names after the prefix: {@code db.shards.eu.url} is the {@code url} key
+ * of the {@code eu} item of the {@code db.shards} group. Map entries are sorted by their names,
+ * list items are sorted by their names, numeric names by their numbers.
+ *
+ * Nested config objects are created once, when the config object is created.
+ * They are immutable and equal, when their values are equal.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target( {METHOD} )
+public @interface PropertyGroup {
+
+  /**
+   * The key prefix without the trailing dot, for instance {@code db.shards}.
+   */
+  String value();
+
+}
@@ -0,0 +1,195 @@
+package com.savdev.commons.config;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Ordering;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static com.savdev.commons.config.FileConfig.UNSUPPORTED_METHOD_FORMAT_MSG;
+import static com.savdev.commons.config.FileConfig.WRONG_PROPERTY_GROUP_FORMAT_MSG;
+
+/**
+ * Binds {@link PropertyGroup} methods to nested config objects.
+ *
+ * Keys of all the groups of a config interface are found in the keys, sorted once:
+ * keys with the same prefix follow each other, so each group is a range of the sorted keys,
+ * found by a binary search and split into nested properties in one pass.
+ */
+final class PropertyGroups {
+
+  private static final char SEPARATOR = '.';
+
+  /**
+   * Numeric names by their numbers before other names, other names in the natural order.
+   * Numbers are compared by their lengths first, so the order is transitive for names of any lengths.
+   */
+  private static final Comparator<String> NAME_ORDER = Comparator.comparing((String name) -> !isNumber(name))
+    .thenComparing(name -> isNumber(name) ? name.length() : 0)
+    .thenComparing(Comparator.naturalOrder());
+
+  private PropertyGroups() {
+  }
+
+  /**
+   * @return the nested config interface of the method, {@code null} if the return type is not supported
+   */
+  static Class<?> nestedInterface(final Method method) {
+    Class<?> returnType = method.getReturnType();
+    Type nestedType = returnType;
+    if (List.class.equals(returnType)) {
+      nestedType = ((ParameterizedType) method.getGenericReturnType()).getActualTypeArguments()[0];
+    } else if (Map.class.equals(returnType)) {
+      Type[] types = ((ParameterizedType) method.getGenericReturnType()).getActualTypeArguments();
+      nestedType = String.class.equals(types[0]) ? types[1] : null;
+    }
+    if (!(nestedType instanceof Class)) {
+      return null;
+    }
+    Class<?> nestedInterface = (Class<?>) nestedType;
+    return nestedInterface.isInterface()
+      && !Iterable.class.isAssignableFrom(nestedInterface)
+      && !Map.class.isAssignableFrom(nestedInterface)
+      && !Optional.class.equals(nestedInterface)
+      ? nestedInterface
+      : null;
+  }
+
+  /**
+   * @param sortedKeys the sorted keys of the properties
+   * @return the nested config object, list or map of them
+   */
+  static Object value(
+    final Map<String, String> propsAsMap,
+    final List<String> sortedKeys,
+    final Method method) {
+    String group = method.getAnnotation(PropertyGroup.class).value();
+    String prefix = group + SEPARATOR;
+    Class<?> nestedInterface = nestedInterface(method);
+    Class<?> returnType = method.getReturnType();
+    if (!List.class.equals(returnType) && !Map.class.equals(returnType)) {
+      Map<String, String> properties = new HashMap<>();
+      forEachKey(sortedKeys, prefix, key -> properties.put(key.substring(prefix.length()), propsAsMap.get(key)));
+      return config(nestedInterface, group, method, properties);
+    }
+
+    Map<String, Map<String, String>> groups = new HashMap<>();
+    forEachKey(sortedKeys, prefix, key -> {
+      int end = key.indexOf(SEPARATOR, prefix.length());
+      //a value of the name itself is not a key of the nested interface
+      if (end > prefix.length()) {
+        groups.computeIfAbsent(key.substring(prefix.length(), end), name -> new HashMap<>())
+              .put(key.substring(end + 1), propsAsMap.get(key));
+      }
+    });
+    List<String> names = groups.keySet().stream().sorted(NAME_ORDER).collect(Collectors.toList());
+    if (List.class.equals(returnType)) {
+      ImmutableList.Builder<Object> items = ImmutableList.builder();
+      names.forEach(name -> items.add(config(nestedInterface, prefix + name, method, groups.get(name))));
+      return items.build();
+    }
+    Map<String, Object> entries = new LinkedHashMap<>();
+    names.forEach(name -> entries.put(name, config(nestedInterface, prefix + name, method, groups.get(name))));
+    return CompactMap.copyOf(entries);
+  }
+
+  /**
+   * @return the keys of the properties, sorted once for all the groups of a config interface
+   */
+  static List<String> sortedKeys(final Map<String, String> propsAsMap) {
+    return Ordering.natural().immutableSortedCopy(propsAsMap.keySet());
+  }
+
+  private static void forEachKey(
+    final List<String> sortedKeys,
+    final String prefix,
+    final Consumer<String> action) {
+    int low = 0;
+    int high = sortedKeys.size();
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (sortedKeys.get(middle).compareTo(prefix) < 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    for (int index = low; index < sortedKeys.size() && sortedKeys.get(index).startsWith(prefix); index++) {
+      action.accept(sortedKeys.get(index));
+    }
+  }
+
+  private static Object config(
+    final Class<?> nestedInterface,
+    final String group,
+    final Method method,
+    final Map<String, String> properties) {
+    try {
+      return proxy(nestedInterface, FileConfig.values(PropertyTable.copyOf(properties), nestedInterface));
+    } catch (RuntimeException e) {
+      throw new IllegalStateException(
+        String.format(WRONG_PROPERTY_GROUP_FORMAT_MSG, group, method.getName(), e.getMessage()), e);
+    }
+  }
+
+  private static Object proxy(final Class<?> nestedInterface, final Map<Method, Object> values) {
+    return Proxy.newProxyInstance(
+      FileConfig.class.getClassLoader(),
+      new Class<?>[]{nestedInterface},
+      new NestedConfig(nestedInterface, values));
+  }
+
+  private static boolean isNumber(final String name) {
+    return name.chars().allMatch(Character::isDigit);
+  }
+
+  /**
+   * Returns the converted values, nested config objects are equal, when their values are equal.
+   */
+  private static final class NestedConfig implements InvocationHandler {
+
+    private final Class<?> nestedInterface;
+
+    private final Map<Method, Object> values;
+
+    private NestedConfig(Class<?> nestedInterface, Map<Method, Object> values) {
+      this.nestedInterface = nestedInterface;
+      this.values = values;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+      Object value = values.get(method);
+      if (value != null) {
+        return LazyValue.value(value);
+      }
+      if (method.getName().equals("equals") && method.getParameterCount() == 1) {
+        Object other = args[0];
+        return other != null
+          && Proxy.isProxyClass(other.getClass())
+          && Proxy.getInvocationHandler(other) instanceof NestedConfig
+          && nestedInterface.equals(((NestedConfig) Proxy.getInvocationHandler(other)).nestedInterface)
+          && values.equals(((NestedConfig) Proxy.getInvocationHandler(other)).values);
+      } else if (method.getName().equals("hashCode") && method.getParameterCount() == 0) {
+        return values.hashCode();
+      } else if (method.getName().equals("toString") && method.getParameterCount() == 0) {
+        return nestedInterface.getSimpleName() + values.entrySet().stream()
+                                                         .map(entry -> entry.getKey().getName() + "=" + entry.getValue())
+                                                         .sorted()
+                                                         .collect(Collectors.joining(", ", "{", "}"));
+      }
+      throw new UnsupportedOperationException(String.format(UNSUPPORTED_METHOD_FORMAT_MSG, method.getName()));
+    }
+  }
+}
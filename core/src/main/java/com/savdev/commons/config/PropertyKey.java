@@ -20,6 +20,12 @@ public @interface PropertyKey {
 
   Class<?> optionalClass() default String.class;
 
+  /**
+   * When set, a {@code long} value may have a size unit, for instance {@code 64MB},
+   * see {@link PropertyValues#byteSize(String)}.
+   */
+  boolean byteSize() default false;
+
   String itemsSeparator() default ITEMS_SEPARATOR;
 
   String keyValueSeparator() default KEY_VALUE_SEPARATOR;
@@ -0,0 +1,28 @@
+package com.savdev.commons.config;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Source of raw property values.
+ *
+ * @see PropertySources
+ */
+@FunctionalInterface
+public interface PropertySource {
+
+  /**
+   * @return all the properties of the source
+   */
+  Map<String, String> properties();
+
+  /**
+   * @return files, the source reads, reloadable factories watch them
+   */
+  default Collection<Path> files() {
+    return Collections.emptyList();
+  }
+
+}
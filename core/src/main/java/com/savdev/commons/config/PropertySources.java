@@ -0,0 +1,186 @@
+package com.savdev.commons.config;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableList;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+/**
+ * Factories of {@link PropertySource} objects.
+ */
+public final class PropertySources {
+
+  public static final String CYCLIC_REFERENCES_FORMAT_MSG =
+    "Cyclic references of property keys: %s";
+
+  public static final String NOT_EXISTING_REFERENCE_FORMAT_MSG =
+    "Value of property key: '%s' references not existing property: '%s'";
+
+  private PropertySources() {
+  }
+
+  /**
+   * The stream is read once, on the first load, next loads return the same properties.
+   */
+  public static PropertySource inputStream(final InputStream inputStream) {
+    Supplier<Map<String, String>> properties = Suppliers.memoize(() -> FileConfig.load(inputStream));
+    return properties::get;
+  }
+
+  /**
+   * The file is parsed once, until it is changed, for all the sources and factories of the file.
+   */
+  public static PropertySource file(final Path file) {
+    return new ParsedSources.FileSource(file);
+  }
+
+  /**
+   * The same as {@link #file(Path)}, but the file is memory-mapped and only keys are decoded on loading.
+   * A value is decoded on the first access. Useful for large files, only a few keys of which are used.
+   * The properties should be read only while config objects are created, the file could be changed later.
+   */
+  public static PropertySource mappedFile(final Path file) {
+    Path absolutePath = file.toAbsolutePath();
+    return new PropertySource() {
+      @Override
+      public Map<String, String> properties() {
+        return IndexedProperties.map(absolutePath);
+      }
+
+      @Override
+      public Collection<Path> files() {
+        return Collections.singletonList(absolutePath);
+      }
+    };
+  }
+
+  /**
+   * The same as {@link #file(Path)}, but a snapshot of the file, compiled by {@link ConfigSnapshot},
+   * is memory-mapped instead, if it exists and is not stale.
+   */
+  public static PropertySource snapshot(final Path file, final Path snapshotFile) {
+    PropertySource source = file(file);
+    Path absoluteSnapshotPath = snapshotFile.toAbsolutePath();
+    return new PropertySource() {
+      @Override
+      public Map<String, String> properties() {
+        Map<String, String> properties = SnapshotProperties.map(absoluteSnapshotPath, file);
+        return properties == null ? source.properties() : properties;
+      }
+
+      @Override
+      public Collection<Path> files() {
+        return source.files();
+      }
+    };
+  }
+
+  /**
+   * The same as {@link #file(Path)}, but a not existing file has no properties.
+   * Useful for per-host override files.
+   */
+  public static PropertySource optionalFile(final Path file) {
+    PropertySource source = file(file);
+    return new PropertySource() {
+      @Override
+      public Map<String, String> properties() {
+        return Files.exists(file) ? source.properties() : Collections.emptyMap();
+      }
+
+      @Override
+      public Collection<Path> files() {
+        return source.files();
+      }
+    };
+  }
+
+  public static PropertySource systemProperties() {
+    return () -> {
+      Properties properties = System.getProperties();
+      Map<String, String> values = new HashMap<>();
+      for (String name : properties.stringPropertyNames()) {
+        String value = properties.getProperty(name);
+        //the property could be removed meanwhile
+        if (value != null) {
+          values.put(name, value);
+        }
+      }
+      return PropertyTable.copyOf(values);
+    };
+  }
+
+  /**
+   * Environment variables. Each variable is also available by a key in lower case
+   * with '_' replaced by '.', for instance {@code DB_URL} as {@code db.url}.
+   */
+  public static PropertySource environmentVariables() {
+    return () -> {
+      Map<String, String> properties = new HashMap<>(System.getenv());
+      System.getenv().forEach((name, value) ->
+        properties.putIfAbsent(name.toLowerCase(Locale.ROOT).replace('_', '.'), value));
+      return PropertyTable.copyOf(properties);
+    };
+  }
+
+  /**
+   * Flattens the sources into one table, when properties are loaded.
+   *
+   * @param sources in the order of increasing priority,
+   *                a value of a later source overrides values of the earlier sources
+   */
+  public static PropertySource layered(final PropertySource... sources) {
+    Collection<Path> files = Arrays.stream(sources)
+                                   .flatMap(source -> source.files().stream())
+                                   .collect(Collectors.collectingAndThen(
+                                     Collectors.toList(), ImmutableList::copyOf));
+    return new PropertySource() {
+      @Override
+      public Map<String, String> properties() {
+        Map<String, String> properties = new HashMap<>();
+        for (PropertySource source : sources) {
+          properties.putAll(source.properties());
+        }
+        return PropertyTable.copyOf(properties);
+      }
+
+      @Override
+      public Collection<Path> files() {
+        return files;
+      }
+    };
+  }
+
+  /**
+   * Resolves references in values of the source: {@code ${key}} to the resolved value of another key,
+   * {@code ${sys:name}} to a system property and {@code ${env:NAME}} to an environment variable.
+   * Values are resolved once per load, on the next loads only changed values and values,
+   * that depend on them, are resolved again. Cyclic references and references to not existing values
+   * fail the load.
+   */
+  public static PropertySource interpolated(final PropertySource source) {
+    return new InterpolatedSource(source);
+  }
+
+  /**
+   * Properties, downloaded from the HTTP endpoint and polled for changes, see {@link RemoteSource}.
+   * The source polls the endpoint until it is closed.
+   *
+   * @param cacheFile the last downloaded content, used if the endpoint is not available on creation
+   */
+  public static RemoteSource remote(final URI uri, final Path cacheFile, final Duration pollInterval) {
+    return new RemoteSource(uri, cacheFile, pollInterval);
+  }
+}
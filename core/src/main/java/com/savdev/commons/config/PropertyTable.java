@@ -0,0 +1,173 @@
+package com.savdev.commons.config;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable table of loaded properties, optimized for concurrent reads.
+ *
+ * Unlike {@link java.util.Properties}, that is a synchronized {@link java.util.Hashtable},
+ * reads take no locks. Keys and values are kept in one array with open addressing
+ * and linear probing, a lookup usually touches a single cache line.
+ * Keys are interned, so {@link PropertyKey} values, that are compile time constants,
+ * are usually found by a reference comparison.
+ */
+public final class PropertyTable extends AbstractMap<String, String> {
+
+  private static final PropertyTable EMPTY = new PropertyTable(new Object[2], 0);
+
+  /**
+   * Keys at even and values at odd indexes.
+   */
+  private final Object[] table;
+
+  private final int mask;
+
+  private final int size;
+
+  private PropertyTable(Object[] table, int size) {
+    this.table = table;
+    this.mask = table.length / 2 - 1;
+    this.size = size;
+  }
+
+  public static PropertyTable copyOf(final Map<String, String> properties) {
+    if (properties instanceof PropertyTable) {
+      return (PropertyTable) properties;
+    }
+    if (properties.isEmpty()) {
+      return EMPTY;
+    }
+    Object[] table = new Object[capacity(properties.size()) * 2];
+    for (Entry<String, String> property : properties.entrySet()) {
+      put(table, Objects.requireNonNull(property.getKey()).intern(), Objects.requireNonNull(property.getValue()));
+    }
+    return new PropertyTable(table, properties.size());
+  }
+
+  /**
+   * Builds the table of loaded keys and values directly, without an intermediate map.
+   *
+   * @param keys   keys in the order of loading, the value of a repeated key replaces the previous one
+   * @param values values of the keys
+   */
+  static PropertyTable of(final String[] keys, final String[] values, final int entries) {
+    if (entries == 0) {
+      return EMPTY;
+    }
+    Object[] table = new Object[capacity(entries) * 2];
+    int size = 0;
+    for (int entry = 0; entry < entries; entry++) {
+      if (put(table, keys[entry].intern(), values[entry])) {
+        size++;
+      }
+    }
+    return new PropertyTable(table, size);
+  }
+
+  @Override
+  public String get(Object key) {
+    if (key == null) {
+      return null;
+    }
+    Object[] table = this.table;
+    for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+      Object candidate = table[slot * 2];
+      if (candidate == key) {
+        return (String) table[slot * 2 + 1];
+      }
+      if (candidate == null) {
+        return null;
+      }
+      if (candidate.equals(key)) {
+        return (String) table[slot * 2 + 1];
+      }
+    }
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return get(key) != null;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public Set<Entry<String, String>> entrySet() {
+    return new AbstractSet<Entry<String, String>>() {
+      @Override
+      public Iterator<Entry<String, String>> iterator() {
+        return new Iterator<Entry<String, String>>() {
+          private int slot = nextSlot(0);
+
+          @Override
+          public boolean hasNext() {
+            return slot < table.length;
+          }
+
+          @Override
+          public Entry<String, String> next() {
+            if (!hasNext()) {
+              throw new NoSuchElementException();
+            }
+            Entry<String, String> entry =
+              new SimpleImmutableEntry<>((String) table[slot], (String) table[slot + 1]);
+            slot = nextSlot(slot + 2);
+            return entry;
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+    };
+  }
+
+  private int nextSlot(int index) {
+    while (index < table.length && table[index] == null) {
+      index += 2;
+    }
+    return index;
+  }
+
+  /**
+   * @return the number of slots, the load factor is not more than 0.5
+   */
+  private static int capacity(final int entries) {
+    return Integer.highestOneBit(Math.max(entries, 1) * 2 - 1) << 1;
+  }
+
+  /**
+   * @param key an interned key
+   * @return {@code false} if the key exists, its value is replaced
+   */
+  private static boolean put(final Object[] table, final String key, final String value) {
+    int mask = table.length / 2 - 1;
+    int slot = hash(key) & mask;
+    while (table[slot * 2] != null) {
+      if (table[slot * 2] == key) {
+        table[slot * 2 + 1] = value;
+        return false;
+      }
+      slot = (slot + 1) & mask;
+    }
+    table[slot * 2] = key;
+    table[slot * 2 + 1] = value;
+    return true;
+  }
+
+  private static int hash(final Object key) {
+    int hash = key.hashCode();
+    return hash ^ (hash >>> 16);
+  }
+}
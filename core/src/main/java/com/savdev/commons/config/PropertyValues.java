@@ -0,0 +1,386 @@
+package com.savdev.commons.config;
+
+import com.google.common.collect.ImmutableList;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.savdev.commons.config.FileConfig.PROPERTY_DOES_NOT_EXIST_FORMAT_MSG;
+import static com.savdev.commons.config.FileConfig.WRONG_PROPERTY_VALUE_FORMAT_MSG;
+import static com.savdev.commons.config.FileConfig.WRONG_PROXY_CONFIG_FORMAT_MSG;
+
+/**
+ * Conversions of raw property values into the supported return types.
+ * Used by {@link FileConfig} proxies and by implementations,
+ * generated at compile time, so both produce the same results.
+ * A {@code null} value means the property does not exist.
+ */
+public final class PropertyValues {
+
+  public static final String WRONG_BOOLEAN_FORMAT_MSG =
+    "Not a boolean value: '%s'. Expected: 'true' or 'false'.";
+
+  public static final String WRONG_DURATION_FORMAT_MSG =
+    "Not a duration: '%s'. Expected: ISO-8601 duration or a number with one of the units: ns, us, ms, s, m, h, d.";
+
+  public static final String WRONG_BYTE_SIZE_FORMAT_MSG =
+    "Not a byte size: '%s'. Expected: a number with one of the units: B, KB, MB, GB, TB.";
+
+  private PropertyValues() {
+  }
+
+  public static void requireKeys(final Map<String, String> properties, final String... keys) {
+    List<String> errors = Arrays.stream(keys)
+                                .filter(key -> !properties.containsKey(key))
+                                .map(key -> String.format(PROPERTY_DOES_NOT_EXIST_FORMAT_MSG, key))
+                                .collect(Collectors.toList());
+    if (!errors.isEmpty()) {
+      throw new IllegalStateException(
+        String.format(WRONG_PROXY_CONFIG_FORMAT_MSG, String.join(",", errors)));
+    }
+  }
+
+  /**
+   * Conversions of all the values of an implementation, generated at compile time.
+   * A failed conversion is recorded, {@link #validate()} reports all of them together,
+   * with the same messages as {@link FileConfig} reports them.
+   */
+  public static final class Conversions {
+
+    private final List<String> errors = new ArrayList<>();
+
+    public <T> T value(final String key, final String method, final Supplier<T> conversion) {
+      try {
+        return conversion.get();
+      } catch (RuntimeException e) {
+        errors.add(String.format(WRONG_PROPERTY_VALUE_FORMAT_MSG, key, method, e.getMessage()));
+        return null;
+      }
+    }
+
+    public int intValue(final String key, final String method, final IntSupplier conversion) {
+      Integer value = value(key, method, conversion::getAsInt);
+      return value == null ? 0 : value;
+    }
+
+    public long longValue(final String key, final String method, final LongSupplier conversion) {
+      Long value = value(key, method, conversion::getAsLong);
+      return value == null ? 0L : value;
+    }
+
+    public double doubleValue(final String key, final String method, final DoubleSupplier conversion) {
+      Double value = value(key, method, conversion::getAsDouble);
+      return value == null ? 0.0 : value;
+    }
+
+    public boolean booleanValue(final String key, final String method, final BooleanSupplier conversion) {
+      Boolean value = value(key, method, conversion::getAsBoolean);
+      return value != null && value;
+    }
+
+    public void validate() {
+      if (!errors.isEmpty()) {
+        throw new IllegalStateException(
+          String.format(WRONG_PROXY_CONFIG_FORMAT_MSG, String.join(",", errors)));
+      }
+    }
+  }
+
+  public static Optional<Integer> optionalInteger(final String value) {
+    return value == null ? Optional.empty() : Optional.of(Integer.valueOf(value));
+  }
+
+  public static <T> Optional<T> optional(final String value, final Function<String, T> parser) {
+    return value == null ? Optional.empty() : Optional.of(parser.apply(value));
+  }
+
+  /**
+   * @return {@code true} or {@code false}, ignoring case, other values are not valid
+   */
+  public static boolean parseBoolean(final String value) {
+    if ("true".equalsIgnoreCase(value)) {
+      return true;
+    } else if ("false".equalsIgnoreCase(value)) {
+      return false;
+    }
+    throw new IllegalArgumentException(String.format(WRONG_BOOLEAN_FORMAT_MSG, value));
+  }
+
+  /**
+   * @param value an ISO-8601 duration, like {@code PT30S}, or a number with one of the units:
+   *              {@code ns, us, ms, s, m, h, d}. A number without a unit is in milliseconds.
+   */
+  public static Duration duration(final String value) {
+    String trimmed = value.trim();
+    if (trimmed.startsWith("P") || trimmed.startsWith("p")
+      || trimmed.startsWith("-P") || trimmed.startsWith("-p")) {
+      return Duration.parse(trimmed);
+    }
+    int unitStart = unitStart(trimmed);
+    long amount = Long.parseLong(trimmed.substring(0, unitStart).trim());
+    String unit = trimmed.substring(unitStart).toLowerCase();
+    switch (unit) {
+      case "ns":
+        return Duration.ofNanos(amount);
+      case "us":
+        return Duration.of(amount, ChronoUnit.MICROS);
+      case "":
+      case "ms":
+        return Duration.ofMillis(amount);
+      case "s":
+        return Duration.ofSeconds(amount);
+      case "m":
+        return Duration.ofMinutes(amount);
+      case "h":
+        return Duration.ofHours(amount);
+      case "d":
+        return Duration.ofDays(amount);
+      default:
+        throw new IllegalArgumentException(String.format(WRONG_DURATION_FORMAT_MSG, value));
+    }
+  }
+
+  /**
+   * @param value a number of bytes with an optional unit: {@code B, KB, MB, GB, TB},
+   *              units are powers of 1024, for instance {@code 64MB}
+   */
+  public static long byteSize(final String value) {
+    String trimmed = value.trim();
+    int unitStart = unitStart(trimmed);
+    long amount = Long.parseLong(trimmed.substring(0, unitStart).trim());
+    int shift;
+    switch (trimmed.substring(unitStart).toUpperCase()) {
+      case "":
+      case "B":
+        shift = 0;
+        break;
+      case "KB":
+        shift = 10;
+        break;
+      case "MB":
+        shift = 20;
+        break;
+      case "GB":
+        shift = 30;
+        break;
+      case "TB":
+        shift = 40;
+        break;
+      default:
+        throw new IllegalArgumentException(String.format(WRONG_BYTE_SIZE_FORMAT_MSG, value));
+    }
+    if (shift > 0 && Long.numberOfLeadingZeros(Math.abs(amount)) <= shift) {
+      throw new IllegalArgumentException(String.format(WRONG_BYTE_SIZE_FORMAT_MSG, value));
+    }
+    return amount << shift;
+  }
+
+  public static List<String> list(final String value, final String itemsSeparator) {
+    return listParser(itemsSeparator).apply(value);
+  }
+
+  public static Map<String, String> map(
+    final String value,
+    final String itemsSeparator,
+    final String keyValueSeparator) {
+    return mapParser(itemsSeparator, keyValueSeparator).apply(value);
+  }
+
+  public static Map<String, List<String>> mapOfLists(
+    final String value,
+    final String itemsSeparator,
+    final String keyValueSeparator,
+    final String mapsListItemsSeparator) {
+    return mapOfListsParser(itemsSeparator, keyValueSeparator, mapsListItemsSeparator).apply(value);
+  }
+
+  public static Map<String, Map<String, String>> mapOfMaps(
+    final String value,
+    final String itemsSeparator,
+    final String keyValueSeparator,
+    final String mapsListItemsSeparator,
+    final String mapsOfMapsItemsSeparator) {
+    return mapOfMapsParser(itemsSeparator, keyValueSeparator, mapsListItemsSeparator, mapsOfMapsItemsSeparator)
+      .apply(value);
+  }
+
+  public static Map<String, Map<String, List<String>>> mapOfMapsOfLists(
+    final String value,
+    final String itemsSeparator,
+    final String keyValueSeparator,
+    final String mapsListItemsSeparator,
+    final String mapsOfMapsItemsSeparator,
+    final String mapsOfMapsOfListsItemsSeparator) {
+    return mapOfMapsOfListsParser(itemsSeparator, keyValueSeparator, mapsListItemsSeparator,
+      mapsOfMapsItemsSeparator, mapsOfMapsOfListsItemsSeparator)
+      .apply(value);
+  }
+
+  /**
+   * @return the supplier of a new stream of the items on each call, the items are split lazily,
+   *         while the stream is consumed
+   */
+  public static Supplier<Stream<String>> stream(final String value, final String itemsSeparator) {
+    return streamParser(itemsSeparator).apply(value);
+  }
+
+  /**
+   * The same as {@link #stream(String, String)}, for an iterator of the items.
+   */
+  public static Supplier<Iterator<String>> iterator(final String value, final String itemsSeparator) {
+    return iteratorParser(itemsSeparator).apply(value);
+  }
+
+  /**
+   * The same as {@link #stream(String, String)}, for a stream of map entries,
+   * a wrong item fails the stream, when it is reached.
+   */
+  public static Supplier<Stream<Map.Entry<String, String>>> entryStream(
+    final String value,
+    final String itemsSeparator,
+    final String keyValueSeparator) {
+    return entryStreamParser(itemsSeparator, keyValueSeparator).apply(value);
+  }
+
+  /**
+   * @return the map with prefix and inverted indexes, see {@link IndexedMap}
+   */
+  public static <V> IndexedMap<V> indexedMap(final Map<String, V> value) {
+    return CompactIndexedMap.of(value);
+  }
+
+  static Function<String, List<String>> listParser(final String itemsSeparator) {
+    return parser(Tokenizer.list(Separator.of(itemsSeparator)), Collections.emptyList());
+  }
+
+  static Function<String, Map<String, String>> mapParser(
+    final String itemsSeparator,
+    final String keyValueSeparator) {
+    return parser(
+      Tokenizer.map(Separator.of(itemsSeparator), Separator.of(keyValueSeparator),
+        Tokenizer.string()),
+      Collections.emptyMap());
+  }
+
+  static Function<String, Map<String, List<String>>> mapOfListsParser(
+    final String itemsSeparator,
+    final String keyValueSeparator,
+    final String mapsListItemsSeparator) {
+    return parser(
+      Tokenizer.map(Separator.of(itemsSeparator), Separator.of(keyValueSeparator),
+        Tokenizer.list(Separator.of(mapsListItemsSeparator))),
+      Collections.emptyMap());
+  }
+
+  static Function<String, Map<String, Map<String, String>>> mapOfMapsParser(
+    final String itemsSeparator,
+    final String keyValueSeparator,
+    final String mapsListItemsSeparator,
+    final String mapsOfMapsItemsSeparator) {
+    return parser(
+      Tokenizer.map(Separator.of(itemsSeparator), Separator.of(keyValueSeparator),
+        Tokenizer.map(Separator.of(mapsListItemsSeparator), Separator.of(mapsOfMapsItemsSeparator),
+          Tokenizer.string())),
+      Collections.emptyMap());
+  }
+
+  static Function<String, Map<String, Map<String, List<String>>>> mapOfMapsOfListsParser(
+    final String itemsSeparator,
+    final String keyValueSeparator,
+    final String mapsListItemsSeparator,
+    final String mapsOfMapsItemsSeparator,
+    final String mapsOfMapsOfListsItemsSeparator) {
+    return parser(
+      Tokenizer.map(Separator.of(itemsSeparator), Separator.of(keyValueSeparator),
+        Tokenizer.map(Separator.of(mapsListItemsSeparator), Separator.of(mapsOfMapsItemsSeparator),
+          Tokenizer.list(Separator.of(mapsOfMapsOfListsItemsSeparator)))),
+      Collections.emptyMap());
+  }
+
+  static Function<String, Supplier<Stream<String>>> streamParser(final String itemsSeparator) {
+    Separator separator = Separator.of(itemsSeparator);
+    return lazyParser(value -> Tokenizer.items(separator, value), Stream::empty, "stream", itemsSeparator);
+  }
+
+  static Function<String, Supplier<Iterator<String>>> iteratorParser(final String itemsSeparator) {
+    Separator separator = Separator.of(itemsSeparator);
+    return lazyParser(value -> Tokenizer.items(separator, value).iterator(), Collections::emptyIterator,
+      "iterator", itemsSeparator);
+  }
+
+  static Function<String, Supplier<Stream<Map.Entry<String, String>>>> entryStreamParser(
+    final String itemsSeparator,
+    final String keyValueSeparator) {
+    Separator items = Separator.of(itemsSeparator);
+    Separator keyValue = Separator.of(keyValueSeparator);
+    return lazyParser(
+      value -> Tokenizer.items(items, value).map(item -> Tokenizer.entry(keyValue, item)),
+      Stream::empty,
+      "entryStream", itemsSeparator, keyValueSeparator);
+  }
+
+  /**
+   * Unmodifiable copy of a converted value, nested lists and maps are copied as well.
+   * Parsed lists and maps are already immutable and are returned as they are.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> T immutableCopy(final T value) {
+    if (value instanceof List) {
+      return (T) ImmutableList.copyOf((List<?>) value);
+    } else if (value instanceof CompactMap || value instanceof IndexedMap) {
+      return value;
+    } else if (value instanceof Map) {
+      Map<String, Object> copy = new LinkedHashMap<>();
+      ((Map<String, ?>) value).forEach((k, v) -> copy.put(k, immutableCopy(v)));
+      return (T) CompactMap.copyOf(copy);
+    }
+    return value;
+  }
+
+  /**
+   * @return the index of the first letter, the length if there is no letter
+   */
+  private static int unitStart(final String value) {
+    int index = 0;
+    while (index < value.length() && !Character.isLetter(value.charAt(index))) {
+      index++;
+    }
+    return index;
+  }
+
+  /**
+   * @param converter  the conversion of an existing value
+   * @param empty      the result for a not existing value
+   * @param conversion the return type and separators, lazy values of the same conversion are equal
+   */
+  private static <T> Function<String, Supplier<T>> lazyParser(
+    final Function<String, T> converter,
+    final Supplier<T> empty,
+    final String... conversion) {
+    List<String> description = ImmutableList.copyOf(conversion);
+    Function<String, T> valueConverter = value -> value == null ? empty.get() : converter.apply(value);
+    return value -> new LazyValue<>(value, description, valueConverter);
+  }
+
+  private static <T> Function<String, T> parser(
+    final Tokenizer.ValueParser<T> valueParser,
+    final T notExisting) {
+    return value -> value == null ? notExisting : valueParser.parse(value, 0, value.length());
+  }
+}
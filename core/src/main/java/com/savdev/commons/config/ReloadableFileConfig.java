@@ -0,0 +1,480 @@
+package com.savdev.commons.config;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+import java.util.logging.Logger;
+
+import static com.savdev.commons.config.FileConfig.UNSUPPORTED_METHOD_FORMAT_MSG;
+
+/**
+ * Watches files of the source and reloads the source on each change.
+ *
+ * A reload loads the source and validates it against all the config interfaces,
+ * proxies were created for, on the watcher thread. Then it replaces the current
+ * immutable {@link Snapshot} at once, so proxies never block and never see
+ * a partially loaded file. If a reload fails, the last loaded snapshot is used.
+ * A change is reloaded, when sizes and modification times of the files are not changed
+ * for {@link #QUIET_PERIOD_MILLIS}, so a file is not reloaded, while it is still written.
+ *
+ * After a reload, listeners get the changed values. Each listener has its own queue of changes,
+ * drained by one of {@link #LISTENER_THREADS} threads at a time, so a listener gets changes one by one
+ * in the reload order, and a slow listener does not delay the reload or listeners on other threads.
+ * A queue keeps at most {@link #LISTENER_QUEUE_CAPACITY} changes: if a listener does not keep up,
+ * the oldest pending change is dropped and logged, so the listener still gets the latest values.
+ * Pending changes of a removed listener are dropped.
+ */
+public class ReloadableFileConfig implements ConfigFactory, Closeable {
+
+  private static final Logger LOGGER = Logger.getLogger(ReloadableFileConfig.class.getName());
+
+  static final long QUIET_PERIOD_MILLIS = 200;
+
+  static final int LISTENER_THREADS = 4;
+
+  static final int LISTENER_QUEUE_CAPACITY = 64;
+
+  final PropertySource source;
+
+  final Set<Path> files;
+
+  private final WatchService watchService;
+
+  private final ExecutorService watcher;
+
+  private final ExecutorService listenersExecutor;
+
+  private final Map<Class<?>, List<ConfigListener>> interfaceListeners = new ConcurrentHashMap<>();
+
+  private final Map<String, List<ConfigListener>> keyListeners = new ConcurrentHashMap<>();
+
+  private final Map<ConfigListener, ListenerQueue> listenerQueues = new ConcurrentHashMap<>();
+
+  private volatile Snapshot snapshot;
+
+  /**
+   * Counts calls, conversions and reloads, {@code null} if the config is not instrumented.
+   */
+  private final ConfigMetrics metrics;
+
+  ReloadableFileConfig(Path file) {
+    this(PropertySources.file(file));
+  }
+
+  ReloadableFileConfig(Path file, ConfigMetrics metrics) {
+    this(PropertySources.file(file), metrics);
+  }
+
+  ReloadableFileConfig(PropertySource source) {
+    this(source, null);
+  }
+
+  ReloadableFileConfig(PropertySource source, ConfigMetrics metrics) {
+    this.source = source;
+    this.metrics = metrics;
+    this.files = ImmutableSet.copyOf(source.files());
+    this.snapshot = new Snapshot(load(), ImmutableMap.of());
+    try {
+      this.watchService = FileSystems.getDefault().newWatchService();
+      for (Path directory : files.stream().map(Path::getParent).collect(Collectors.toSet())) {
+        directory.register(watchService,
+          StandardWatchEventKinds.ENTRY_CREATE,
+          StandardWatchEventKinds.ENTRY_MODIFY);
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Could not watch files: " + files, e);
+    }
+    this.watcher = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "config-watcher");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.watcher.execute(this::watch);
+    //at most one task per listener is queued, since a queue is drained by one task at a time
+    ThreadPoolExecutor listenersExecutor = new ThreadPoolExecutor(
+      LISTENER_THREADS, LISTENER_THREADS,
+      60L, TimeUnit.SECONDS,
+      new LinkedBlockingQueue<>(),
+      runnable -> {
+        Thread thread = new Thread(runnable, "config-listener");
+        thread.setDaemon(true);
+        return thread;
+      });
+    listenersExecutor.allowCoreThreadTimeOut(true);
+    this.listenersExecutor = listenersExecutor;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <T> T proxy(Class<T> configInterface) {
+    synchronized (this) {
+      Snapshot current = snapshot;
+      if (!current.values.containsKey(configInterface)) {
+        Map<Method, Object> values;
+        try {
+          values = FileConfig.values(current.properties, configInterface, metrics);
+        } catch (RuntimeException e) {
+          //the downloaded properties are validated by the first proxy, the cached ones are used instead
+          if (!current.values.isEmpty() || !rejected(current.properties)) {
+            throw e;
+          }
+          LOGGER.log(Level.WARNING, "Downloaded configuration is not valid for: " + configInterface.getName()
+            + ". The cached configuration is used.", e);
+          current = new Snapshot(load(), current.values);
+          values = FileConfig.values(current.properties, configInterface, metrics);
+        }
+        snapshot = current.with(configInterface, values);
+        accepted(current.properties);
+      }
+    }
+    Map<Method, ConfigMetrics.Counters> counters = metrics == null
+      ? null
+      : metrics.bind(snapshot.values.get(configInterface).keySet());
+    return (T) Proxy.newProxyInstance(
+      FileConfig.class.getClassLoader(),
+      new Class<?>[]{configInterface},
+      (proxy, method, methodArgs) -> {
+        if (counters != null && counters.containsKey(method)) {
+          counters.get(method).calls.increment();
+        }
+        Object value = snapshot.values.get(configInterface).get(method);
+        if (value == null) {
+          throw new UnsupportedOperationException(
+            String.format(UNSUPPORTED_METHOD_FORMAT_MSG, method.getName()));
+        }
+        return LazyValue.value(value);
+      });
+  }
+
+  /**
+   * Loads the source and replaces the current snapshot.
+   *
+   * @return {@code false} if the source could not be loaded or is not valid
+   *         for one of the config interfaces, the last loaded snapshot is kept
+   */
+  public synchronized boolean reload() {
+    Map<String, String> properties = null;
+    try {
+      ParsedSources.evict(files);
+      properties = load();
+      ImmutableMap.Builder<Class<?>, Map<Method, Object>> values = ImmutableMap.builder();
+      for (Class<?> configInterface : snapshot.values.keySet()) {
+        values.put(configInterface, FileConfig.values(properties, configInterface, metrics));
+      }
+      Snapshot previous = snapshot;
+      snapshot = new Snapshot(properties, values.build());
+      notifyListeners(previous, snapshot);
+      //without config interfaces the properties are not validated yet, the first proxy validates them
+      if (!snapshot.values.isEmpty()) {
+        accepted(properties);
+      }
+      return true;
+    } catch (RuntimeException e) {
+      LOGGER.log(Level.WARNING, "Could not reload files: " + files
+        + ". The last loaded configuration is used.", e);
+      if (properties != null) {
+        rejected(properties);
+      }
+      return false;
+    }
+  }
+
+  @Override
+  public void addListener(Class<?> configInterface, ConfigListener listener) {
+    interfaceListeners.computeIfAbsent(configInterface, key -> new CopyOnWriteArrayList<>()).add(listener);
+  }
+
+  /**
+   * Registers a listener for changes of values, bound to the {@link PropertyKey} key
+   * in the config interfaces, proxies were created for.
+   */
+  @Override
+  public void addListener(String propertyKey, ConfigListener listener) {
+    keyListeners.computeIfAbsent(propertyKey, key -> new CopyOnWriteArrayList<>()).add(listener);
+  }
+
+  @Override
+  public void removeListener(ConfigListener listener) {
+    interfaceListeners.values().forEach(listeners -> listeners.remove(listener));
+    keyListeners.values().forEach(listeners -> listeners.remove(listener));
+    listenerQueues.computeIfPresent(listener, (key, queue) -> queue.clear());
+  }
+
+  /**
+   * Stops watching the files and closes the source, if it is {@link Closeable}.
+   */
+  @Override
+  public void close() throws IOException {
+    watcher.shutdownNow();
+    listenersExecutor.shutdownNow();
+    watchService.close();
+    if (source instanceof Closeable) {
+      ((Closeable) source).close();
+    }
+  }
+
+  /**
+   * Lets a remote source cache the properties, that are valid for the config interfaces.
+   */
+  private void accepted(final Map<String, String> properties) {
+    if (source instanceof RemoteSource) {
+      ((RemoteSource) source).accepted(properties);
+    }
+  }
+
+  /**
+   * Lets a remote source drop the downloaded properties, that are not valid.
+   *
+   * @return {@code true} if the source uses its cached properties again
+   */
+  private boolean rejected(final Map<String, String> properties) {
+    return source instanceof RemoteSource && ((RemoteSource) source).rejected(properties);
+  }
+
+  private void notifyListeners(final Snapshot previous, final Snapshot current) {
+    current.values.forEach((configInterface, values) -> {
+      Map<Method, Object> previousValues = previous.values.get(configInterface);
+      List<PropertyChange> changes = new ArrayList<>();
+      values.forEach((method, value) -> {
+        Object previousValue = previousValues.get(method);
+        //lazy values are compared, but listeners get the values, that config methods return
+        if (!Objects.equals(previousValue, value)) {
+          changes.add(new PropertyChange(
+            FileConfig.key(method), method, LazyValue.value(previousValue), LazyValue.value(value)));
+        }
+      });
+      if (changes.isEmpty()) {
+        return;
+      }
+      notifyListeners(interfaceListeners.get(configInterface),
+        new ConfigChange(configInterface, ImmutableList.copyOf(changes)));
+      changes.stream()
+             .collect(Collectors.groupingBy(PropertyChange::getKey))
+             .forEach((key, keyChanges) -> notifyListeners(keyListeners.get(key),
+               new ConfigChange(configInterface, ImmutableList.copyOf(keyChanges))));
+    });
+  }
+
+  private void notifyListeners(final List<ConfigListener> listeners, final ConfigChange change) {
+    if (listeners == null) {
+      return;
+    }
+    for (ConfigListener listener : listeners) {
+      listenerQueues.compute(listener, (key, queue) -> {
+        ListenerQueue listenerQueue = queue == null ? new ListenerQueue(key) : queue;
+        listenerQueue.add(change);
+        return listenerQueue;
+      });
+    }
+  }
+
+  private void watch() {
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        WatchKey key = watchService.take();
+        Path directory = (Path) key.watchable();
+        boolean changed = key.pollEvents().stream()
+                             .anyMatch(event -> event.kind() == StandardWatchEventKinds.OVERFLOW
+                               || files.contains(directory.resolve((Path) event.context())));
+        key.reset();
+        if (changed) {
+          awaitQuietPeriod();
+          reload();
+        }
+      }
+    } catch (InterruptedException | ClosedWatchServiceException e) {
+      //the config is closed
+    }
+  }
+
+  /**
+   * Waits, until the files are not changed for the quiet period.
+   * Events, received meanwhile, are dropped, since the files are reloaded after it anyway.
+   */
+  private void awaitQuietPeriod() throws InterruptedException {
+    List<Object> previous = fileStates();
+    while (true) {
+      long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(QUIET_PERIOD_MILLIS);
+      for (long remaining = deadline - System.nanoTime(); remaining > 0; remaining = deadline - System.nanoTime()) {
+        WatchKey key = watchService.poll(remaining, TimeUnit.NANOSECONDS);
+        if (key != null) {
+          key.pollEvents();
+          key.reset();
+        }
+      }
+      List<Object> current = fileStates();
+      if (current.equals(previous)) {
+        return;
+      }
+      previous = current;
+    }
+  }
+
+  /**
+   * @return sizes and modification times of the files, {@code null} for a file, that could not be read
+   */
+  private List<Object> fileStates() {
+    List<Object> states = new ArrayList<>();
+    for (Path file : files) {
+      try {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        states.add(attributes.size());
+        states.add(attributes.lastModifiedTime());
+      } catch (IOException e) {
+        states.add(null);
+        states.add(null);
+      }
+    }
+    return states;
+  }
+
+  private Map<String, String> load() {
+    long start = System.nanoTime();
+    Map<String, String> properties = PropertyTable.copyOf(source.properties());
+    if (metrics != null) {
+      metrics.loaded(source, properties, System.nanoTime() - start);
+    }
+    return properties;
+  }
+
+  /**
+   * Changes, that are not delivered to the listener yet.
+   * At most one task of the listeners executor drains the queue at a time. The queue is mapped
+   * to the listener, until it is drained, and is changed only with the mapping locked,
+   * so changes of a listener, even a removed and added again one, are never delivered concurrently.
+   */
+  private final class ListenerQueue {
+
+    private final ConfigListener listener;
+
+    private final Queue<ConfigChange> changes = new ArrayDeque<>();
+
+    private boolean draining;
+
+    private ListenerQueue(ConfigListener listener) {
+      this.listener = listener;
+    }
+
+    private synchronized void add(final ConfigChange change) {
+      if (changes.size() == LISTENER_QUEUE_CAPACITY) {
+        LOGGER.warning("Config listener does not keep up, the oldest pending change is dropped: "
+          + changes.poll());
+      }
+      changes.add(change);
+      if (draining) {
+        return;
+      }
+      draining = true;
+      try {
+        listenersExecutor.execute(this::drain);
+      } catch (RejectedExecutionException e) {
+        //the config is closed
+      }
+    }
+
+    /**
+     * Drops pending changes of the removed listener.
+     *
+     * @return the queue, if it is still drained, {@code null} if it is not needed anymore
+     */
+    private synchronized ListenerQueue clear() {
+      changes.clear();
+      return draining ? this : null;
+    }
+
+    /**
+     * @return the queue, if changes were added meanwhile, {@code null} if it is drained
+     */
+    private synchronized ListenerQueue finish() {
+      if (!changes.isEmpty()) {
+        return this;
+      }
+      draining = false;
+      return null;
+    }
+
+    private void drain() {
+      ConfigChange change;
+      while ((change = next()) != null) {
+        try {
+          listener.changed(change);
+        } catch (RuntimeException e) {
+          LOGGER.log(Level.WARNING, "Config listener failed. Change: " + change, e);
+        }
+      }
+    }
+
+    /**
+     * @return the next change, {@code null} if the queue is drained and unmapped
+     */
+    private ConfigChange next() {
+      synchronized (this) {
+        ConfigChange change = changes.poll();
+        if (change != null) {
+          return change;
+        }
+      }
+      listenerQueues.computeIfPresent(listener, (key, queue) -> queue == this ? finish() : queue);
+      synchronized (this) {
+        ConfigChange change = changes.poll();
+        if (change == null) {
+          draining = false;
+        }
+        return change;
+      }
+    }
+  }
+
+  /**
+   * Loaded properties and converted values of all the config interfaces.
+   */
+  static class Snapshot {
+
+    final Map<String, String> properties;
+
+    final Map<Class<?>, Map<Method, Object>> values;
+
+    Snapshot(Map<String, String> properties, Map<Class<?>, Map<Method, Object>> values) {
+      this.properties = properties;
+      this.values = values;
+    }
+
+    Snapshot with(Class<?> configInterface, Map<Method, Object> interfaceValues) {
+      return new Snapshot(properties,
+        ImmutableMap.<Class<?>, Map<Method, Object>>builder()
+          .putAll(values)
+          .put(configInterface, interfaceValues)
+          .build());
+    }
+  }
+}
@@ -0,0 +1,349 @@
+package com.savdev.commons.config;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.ByteStreams;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Properties, downloaded from an HTTP endpoint, in the same format as properties files.
+ *
+ * The endpoint is polled with conditional requests: the {@code ETag} of the last downloaded content
+ * is sent in {@code If-None-Match}, so an unchanged config costs a {@code 304} response without a body.
+ * Delays between polls are randomized by {@link #JITTER} of the interval, so nodes, started together,
+ * do not poll the endpoint at the same time.
+ *
+ * The last downloaded content is stored with its {@code ETag} in the cache file. If the endpoint is not
+ * available on creation, the cached content is used. The cache file is also the file of the source,
+ * so a reloadable factory of the source reloads it, when a poll downloads a changed content.
+ * If the endpoint fails later, the last downloaded content is kept.
+ *
+ * A validated source, created by {@link Configs#remoteConfig}, keeps a downloaded content pending instead.
+ * The factory is notified by the {@link #onChange(Runnable)} callback and loads the pending content.
+ * Only the content, that the factory {@link #accepted(Map) accepts}, is cached and is used from then on,
+ * so an invalid content does not replace the cached one, that a restart falls back to.
+ */
+public final class RemoteSource implements PropertySource, Closeable {
+
+  public static final String NOT_AVAILABLE_FORMAT_MSG =
+    "Could not load config from: '%s', cache file: '%s' does not exist.";
+
+  public static final String UNEXPECTED_STATUS_FORMAT_MSG =
+    "Unexpected response status: %d from: '%s'";
+
+  /**
+   * A poll is delayed by the interval, plus or minus this share of it.
+   */
+  static final double JITTER = 0.2;
+
+  static final int TIMEOUT_MILLIS = 5_000;
+
+  /**
+   * The first line of the cache file, a comment with the {@code ETag} of the cached content.
+   */
+  static final String ETAG_COMMENT = "#ETag: ";
+
+  private static final Logger LOGGER = Logger.getLogger(RemoteSource.class.getName());
+
+  private final URI uri;
+
+  private final Path cacheFile;
+
+  private final Duration pollInterval;
+
+  private final ScheduledExecutorService poller;
+
+  /**
+   * If set, a downloaded content is pending, until the factory accepts it.
+   */
+  private final boolean validated;
+
+  /**
+   * The accepted content, that is cached.
+   */
+  private volatile Content content;
+
+  /**
+   * The downloaded content, that is not accepted or rejected yet, {@code null} if there is none.
+   */
+  private volatile Content pending;
+
+  /**
+   * The last downloaded content, accepted or not, its {@code ETag} is sent with the next poll.
+   */
+  private volatile Content latest;
+
+  private volatile Runnable listener;
+
+  RemoteSource(URI uri, Path cacheFile, Duration pollInterval) {
+    this(uri, cacheFile, pollInterval, false);
+  }
+
+  RemoteSource(URI uri, Path cacheFile, Duration pollInterval, boolean validated) {
+    this.uri = uri;
+    this.cacheFile = cacheFile.toAbsolutePath();
+    this.pollInterval = pollInterval;
+    this.validated = validated;
+    this.content = cached(this.cacheFile);
+    this.latest = content;
+    try {
+      poll();
+    } catch (IOException | RuntimeException e) {
+      if (content == null && pending == null) {
+        throw new IllegalStateException(String.format(NOT_AVAILABLE_FORMAT_MSG, uri, this.cacheFile), e);
+      }
+      LOGGER.log(Level.WARNING, "Could not load config from: " + uri
+        + ". The cached configuration is used: " + this.cacheFile, e);
+    }
+    this.poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "config-poller");
+      thread.setDaemon(true);
+      return thread;
+    });
+    schedulePoll();
+  }
+
+  /**
+   * @return the pending content, if there is one, otherwise the accepted content
+   */
+  @Override
+  public Map<String, String> properties() {
+    Content next = pending;
+    return next != null ? next.properties : content.properties;
+  }
+
+  /**
+   * @return the cache file, it is rewritten on each change of the content,
+   *         no files for a validated source, it notifies the factory itself
+   */
+  @Override
+  public Collection<Path> files() {
+    return validated ? ImmutableList.of() : ImmutableList.of(cacheFile);
+  }
+
+  /**
+   * Sets the callback, that reloads the factory of a validated source, when a poll downloads a changed content.
+   */
+  void onChange(final Runnable listener) {
+    this.listener = listener;
+  }
+
+  /**
+   * Called by the factory, when the properties are valid for all its config interfaces.
+   * If they are the pending content, it is cached and is used from now on.
+   */
+  synchronized void accepted(final Map<String, String> properties) {
+    Content next = pending;
+    if (next != null && next.properties == properties) {
+      content = next;
+      pending = null;
+      store(next);
+    }
+  }
+
+  /**
+   * Called by the factory, when the properties are not valid. If they are the pending content,
+   * it is dropped, and is not downloaded again, until the endpoint changes it.
+   *
+   * @return {@code true} if the pending content is dropped, so the accepted content is used again
+   */
+  synchronized boolean rejected(final Map<String, String> properties) {
+    Content next = pending;
+    if (next != null && next.properties == properties && content != null) {
+      pending = null;
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public void close() {
+    poller.shutdownNow();
+  }
+
+  /**
+   * Downloads the content, if it is changed. The content is cached at once,
+   * or, for a validated source, the factory is notified to validate it.
+   *
+   * @return {@code false} if the content is not changed, even if its {@code ETag} is changed
+   */
+  boolean poll() throws IOException {
+    boolean changed = download();
+    Runnable reload = listener;
+    //the factory is notified without the lock, since it calls back accepted() or rejected()
+    if (changed && reload != null) {
+      reload.run();
+    }
+    return changed;
+  }
+
+  private synchronized boolean download() throws IOException {
+    Content current = latest;
+    HttpURLConnection connection = (HttpURLConnection) uri.toURL().openConnection();
+    try {
+      connection.setConnectTimeout(TIMEOUT_MILLIS);
+      connection.setReadTimeout(TIMEOUT_MILLIS);
+      connection.setUseCaches(false);
+      if (current != null && current.etag != null) {
+        connection.setRequestProperty("If-None-Match", current.etag);
+      }
+      int status = connection.getResponseCode();
+      if (status == HttpURLConnection.HTTP_NOT_MODIFIED && current != null) {
+        return false;
+      }
+      if (status != HttpURLConnection.HTTP_OK) {
+        throw new IOException(String.format(UNEXPECTED_STATUS_FORMAT_MSG, status, uri));
+      }
+      byte[] payload;
+      try (InputStream inputStream = connection.getInputStream()) {
+        payload = ByteStreams.toByteArray(inputStream);
+      }
+      String etag = connection.getHeaderField("ETag");
+      boolean changed = current == null || !Arrays.equals(current.payload, payload);
+      if (!changed && Objects.equals(current.etag, etag)) {
+        return false;
+      }
+      Content downloaded = changed
+        ? new Content(etag, payload, PropertiesParser.parse(ByteBuffer.wrap(payload)))
+        : new Content(etag, current.payload, current.properties);
+      latest = downloaded;
+      if (validated && (changed || current == pending)) {
+        //cached, when the factory accepts it
+        pending = downloaded;
+      } else if (changed || current == content) {
+        content = downloaded;
+        store(downloaded);
+      }
+      return changed;
+    } finally {
+      connection.disconnect();
+    }
+  }
+
+  /**
+   * @return the delay before the next poll, in milliseconds
+   */
+  long nextDelay() {
+    long interval = pollInterval.toMillis();
+    long jitter = (long) (interval * JITTER);
+    return interval - jitter + ThreadLocalRandom.current().nextLong(2 * jitter + 1);
+  }
+
+  private void schedulePoll() {
+    try {
+      poller.schedule(() -> {
+        try {
+          poll();
+        } catch (IOException | RuntimeException e) {
+          LOGGER.log(Level.WARNING, "Could not poll config from: " + uri
+            + ". The last loaded configuration is used.", e);
+        }
+        schedulePoll();
+      }, nextDelay(), TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      //the source is closed
+    }
+  }
+
+  /**
+   * Replaces the cache file at once, so the file is never read partially written.
+   * If the file could not be written, the content is used, but is not cached.
+   */
+  private void store(final Content stored) {
+    try {
+      Files.createDirectories(cacheFile.getParent());
+      Path tempFile = Files.createTempFile(cacheFile.getParent(), cacheFile.getFileName().toString(), ".tmp");
+      try {
+        byte[] header = stored.etag == null
+          ? new byte[0]
+          : (ETAG_COMMENT + stored.etag + "\n").getBytes(StandardCharsets.UTF_8);
+        byte[] file = Arrays.copyOf(header, header.length + stored.payload.length);
+        System.arraycopy(stored.payload, 0, file, header.length, stored.payload.length);
+        Files.write(tempFile, file);
+        Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(tempFile);
+      }
+    } catch (IOException e) {
+      LOGGER.log(Level.WARNING, "Could not write cache file: " + cacheFile, e);
+    }
+  }
+
+  /**
+   * @return the cached content, {@code null} if the cache file does not exist
+   */
+  private static Content cached(final Path cacheFile) {
+    if (!Files.exists(cacheFile)) {
+      return null;
+    }
+    try {
+      byte[] file = Files.readAllBytes(cacheFile);
+      String etag = null;
+      int payloadStart = 0;
+      if (startsWith(file, ETAG_COMMENT)) {
+        int lineEnd = ETAG_COMMENT.length();
+        while (lineEnd < file.length && file[lineEnd] != '\n') {
+          lineEnd++;
+        }
+        etag = new String(file, ETAG_COMMENT.length(), lineEnd - ETAG_COMMENT.length(), StandardCharsets.UTF_8);
+        payloadStart = Math.min(lineEnd + 1, file.length);
+      }
+      byte[] payload = Arrays.copyOfRange(file, payloadStart, file.length);
+      return new Content(etag, payload, PropertiesParser.parse(ByteBuffer.wrap(payload)));
+    } catch (IOException | RuntimeException e) {
+      LOGGER.log(Level.WARNING, "Could not read cache file: " + cacheFile, e);
+      return null;
+    }
+  }
+
+  private static boolean startsWith(final byte[] file, final String prefix) {
+    if (file.length < prefix.length()) {
+      return false;
+    }
+    for (int i = 0; i < prefix.length(); i++) {
+      if (file[i] != prefix.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Downloaded content, its parsed properties and its {@code ETag}, {@code null} if the endpoint sends none.
+   */
+  private static final class Content {
+
+    private final String etag;
+
+    private final byte[] payload;
+
+    private final Map<String, String> properties;
+
+    private Content(String etag, byte[] payload, Map<String, String> properties) {
+      this.etag = etag;
+      this.payload = payload;
+      this.properties = properties;
+    }
+  }
+}
@@ -0,0 +1,187 @@
+package com.savdev.commons.config;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * {@link PropertyKey} separator, compiled once.
+ *
+ * Separators are regular expressions, the same as for {@link String#split(String)}.
+ * Most of them, like {@link PropertyKey#ITEMS_SEPARATOR} or {@link PropertyKey#KEY_VALUE_SEPARATOR},
+ * match a literal string, such separators are searched with {@link String#indexOf(String, int)}.
+ * Other separators are matched with a precompiled {@link Pattern}.
+ *
+ * Splitting follows {@link String#split(String)} rules: trailing empty tokens are removed,
+ * a value without separators is a single token.
+ */
+final class Separator {
+
+  private static final String REGEX_META_CHARS = ".$|()[]{}^?*+\\";
+
+  @FunctionalInterface
+  interface TokenConsumer {
+
+    /**
+     * @param source the string, the token is a part of
+     * @param from the token start index in the source, inclusive
+     * @param to the token end index in the source, exclusive
+     */
+    void accept(String source, int from, int to);
+  }
+
+  private final String regex;
+
+  private final String literal;
+
+  private final Pattern pattern;
+
+  private Separator(String regex, String literal, Pattern pattern) {
+    this.regex = regex;
+    this.literal = literal;
+    this.pattern = pattern;
+  }
+
+  static Separator of(final String regex) {
+    String literal = literal(regex);
+    return literal != null && !literal.isEmpty()
+      ? new Separator(regex, literal, null)
+      : new Separator(regex, null, Pattern.compile(regex));
+  }
+
+  /**
+   * Splits the {@code [from, to)} range of the value, without copying the range.
+   */
+  void split(final String value, final int from, final int to, final TokenConsumer consumer) {
+    if (pattern != null) {
+      for (String token : pattern.split(value.substring(from, to))) {
+        consumer.accept(token, 0, token.length());
+      }
+      return;
+    }
+    int separatorLength = literal.length();
+    int tokenStart = from;
+    int index = value.indexOf(literal, from);
+    if (index < 0 || index + separatorLength > to) {
+      consumer.accept(value, from, to);
+      return;
+    }
+    //empty tokens are delayed, trailing empty tokens are not reported
+    int emptyTokens = 0;
+    while (true) {
+      int tokenEnd = index < 0 || index + separatorLength > to ? to : index;
+      if (tokenEnd == tokenStart) {
+        emptyTokens++;
+      } else {
+        for (; emptyTokens > 0; emptyTokens--) {
+          consumer.accept(value, tokenStart, tokenStart);
+        }
+        consumer.accept(value, tokenStart, tokenEnd);
+      }
+      if (tokenEnd == to) {
+        return;
+      }
+      tokenStart = tokenEnd + separatorLength;
+      index = value.indexOf(literal, tokenStart);
+    }
+  }
+
+  /**
+   * The same as {@link #split(String, int, int, TokenConsumer)} for the whole value,
+   * but a token is found and copied, only when it is requested.
+   */
+  Spliterator<String> spliterator(final String value) {
+    return pattern != null
+      ? pattern.splitAsStream(value).spliterator()
+      : new Tokens(value);
+  }
+
+  @Override
+  public String toString() {
+    return regex;
+  }
+
+  /**
+   * @return the string, the regular expression matches,
+   *         or {@code null} if it is not a literal
+   */
+  private static String literal(final String regex) {
+    StringBuilder literal = new StringBuilder(regex.length());
+    for (int i = 0; i < regex.length(); i++) {
+      char c = regex.charAt(i);
+      if (c == '\\') {
+        if (i + 1 == regex.length() || Character.isLetterOrDigit(regex.charAt(i + 1))) {
+          return null;
+        }
+        literal.append(regex.charAt(++i));
+      } else if (REGEX_META_CHARS.indexOf(c) >= 0) {
+        return null;
+      } else {
+        literal.append(c);
+      }
+    }
+    return literal.toString();
+  }
+
+  /**
+   * Tokens of a literal separator. Empty tokens are delayed until the next not empty token,
+   * so trailing empty tokens are not reported.
+   */
+  private final class Tokens extends Spliterators.AbstractSpliterator<String> {
+
+    private final String value;
+
+    /**
+     * The start of the next token, greater than the length, when all the tokens are found.
+     */
+    private int tokenStart;
+
+    private int emptyTokens;
+
+    private String delayedToken;
+
+    private Tokens(String value) {
+      super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+      this.value = value;
+      //a value without separators is a single token, even if it is empty
+      if (value.indexOf(literal) < 0) {
+        delayedToken = value;
+        tokenStart = value.length() + 1;
+      }
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super String> action) {
+      if (emptyTokens > 0) {
+        emptyTokens--;
+        action.accept("");
+        return true;
+      }
+      if (delayedToken != null) {
+        String token = delayedToken;
+        delayedToken = null;
+        action.accept(token);
+        return true;
+      }
+      while (tokenStart <= value.length()) {
+        int index = value.indexOf(literal, tokenStart);
+        int tokenEnd = index < 0 ? value.length() : index;
+        int from = tokenStart;
+        tokenStart = index < 0 ? value.length() + 1 : index + literal.length();
+        if (tokenEnd == from) {
+          emptyTokens++;
+          continue;
+        }
+        if (emptyTokens > 0) {
+          delayedToken = value.substring(from, tokenEnd);
+          return tryAdvance(action);
+        }
+        action.accept(value.substring(from, tokenEnd));
+        return true;
+      }
+      emptyTokens = 0;
+      return false;
+    }
+  }
+}
@@ -0,0 +1,228 @@
+package com.savdev.commons.config;
+
+import com.google.common.collect.ImmutableList;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.logging.Logger;
+
+/**
+ * Properties of a memory-mapped snapshot, compiled by {@link ConfigSnapshot}.
+ *
+ * Loading reads only keys and remembers where their values start.
+ * Property values and split values are decoded on the first access and are kept for next ones.
+ * The buffer is read only with absolute gets, so concurrent reads are safe.
+ */
+final class SnapshotProperties extends AbstractMap<String, String> {
+
+  private static final Logger LOGGER = Logger.getLogger(SnapshotProperties.class.getName());
+
+  private final ByteBuffer buffer;
+
+  private final Map<String, Integer> index;
+
+  private final int[] valueStarts;
+
+  private final AtomicReferenceArray<String> values;
+
+  private final Map<String, Integer> splitIndex;
+
+  private final int[] splitValueStarts;
+
+  private final AtomicReferenceArray<Object> splitValues;
+
+  private SnapshotProperties(ByteBuffer buffer) {
+    this.buffer = buffer;
+    int position = 4 + 4 + 8 + 8;
+    int entries = buffer.getInt(position);
+    position += 4;
+    this.index = new HashMap<>(entries * 2);
+    this.valueStarts = new int[entries];
+    for (int entry = 0; entry < entries; entry++) {
+      index.put(string(buffer, position), entry);
+      position = skipString(buffer, position);
+      valueStarts[entry] = position;
+      position = skipString(buffer, position);
+    }
+    this.values = new AtomicReferenceArray<>(entries);
+
+    int splitEntries = buffer.getInt(position);
+    position += 4;
+    this.splitIndex = new HashMap<>(splitEntries * 2);
+    this.splitValueStarts = new int[splitEntries];
+    for (int entry = 0; entry < splitEntries; entry++) {
+      splitIndex.put(string(buffer, position), entry);
+      position = skipString(buffer, position);
+      splitValueStarts[entry] = position + 4;
+      position += 4 + buffer.getInt(position);
+    }
+    this.splitValues = new AtomicReferenceArray<>(splitEntries);
+  }
+
+  /**
+   * @return properties of the snapshot, {@code null} if the snapshot does not exist,
+   *         is of another version or is stale for the properties file
+   */
+  static SnapshotProperties map(final Path snapshotFile, final Path propertiesFile) {
+    if (!Files.exists(snapshotFile)) {
+      return null;
+    }
+    try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IllegalStateException("File is too large to be mapped: " + snapshotFile);
+      }
+      ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      if (buffer.limit() < 4 + 4 + 8 + 8
+        || buffer.getInt(0) != ConfigSnapshot.MAGIC
+        || buffer.getInt(4) != ConfigSnapshot.VERSION) {
+        LOGGER.info("Snapshot: " + snapshotFile + " is not of version "
+          + ConfigSnapshot.VERSION + ", file: " + propertiesFile + " is loaded.");
+        return null;
+      }
+      BasicFileAttributes attributes = Files.readAttributes(propertiesFile, BasicFileAttributes.class);
+      if (buffer.getLong(8) != attributes.size()
+        || buffer.getLong(16) != attributes.lastModifiedTime().toMillis()) {
+        LOGGER.info("Snapshot: " + snapshotFile + " is stale, file: " + propertiesFile + " is loaded.");
+        return null;
+      }
+      return new SnapshotProperties(buffer);
+    } catch (IOException e) {
+      throw new IllegalStateException("Could not load snapshot: " + snapshotFile, e);
+    }
+  }
+
+  /**
+   * @param valueKey see {@link ConfigSnapshot#valueKey(java.lang.reflect.Method)}
+   * @return an unmodifiable split value, {@code null} if the snapshot has no such value
+   */
+  Object splitValue(final String valueKey) {
+    Integer entry = splitIndex.get(valueKey);
+    if (entry == null) {
+      return null;
+    }
+    Object value = splitValues.get(entry);
+    if (value == null) {
+      value = new Decoder(splitValueStarts[entry]).value();
+      splitValues.set(entry, value);
+    }
+    return value;
+  }
+
+  @Override
+  public String get(Object key) {
+    Integer entry = index.get(key);
+    if (entry == null) {
+      return null;
+    }
+    String value = values.get(entry);
+    if (value == null) {
+      value = string(buffer, valueStarts[entry]);
+      values.set(entry, value);
+    }
+    return value;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return index.containsKey(key);
+  }
+
+  @Override
+  public int size() {
+    return index.size();
+  }
+
+  @Override
+  public Set<Entry<String, String>> entrySet() {
+    return new AbstractSet<Entry<String, String>>() {
+      @Override
+      public Iterator<Entry<String, String>> iterator() {
+        Iterator<String> keys = index.keySet().iterator();
+        return new Iterator<Entry<String, String>>() {
+          @Override
+          public boolean hasNext() {
+            return keys.hasNext();
+          }
+
+          @Override
+          public Entry<String, String> next() {
+            String key = keys.next();
+            return new SimpleImmutableEntry<>(key, get(key));
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return index.size();
+      }
+    };
+  }
+
+  private static String string(final ByteBuffer buffer, final int position) {
+    byte[] bytes = new byte[buffer.getInt(position)];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = buffer.get(position + 4 + i);
+    }
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static int skipString(final ByteBuffer buffer, final int position) {
+    return position + 4 + buffer.getInt(position);
+  }
+
+  /**
+   * Decodes an encoded value, starting at a position, into unmodifiable lists and maps.
+   */
+  private final class Decoder {
+
+    private int position;
+
+    private Decoder(int position) {
+      this.position = position;
+    }
+
+    private Object value() {
+      byte tag = buffer.get(position++);
+      int size = buffer.getInt(position);
+      if (tag == ConfigSnapshot.STRING) {
+        return nextString();
+      }
+      position += 4;
+      if (tag == ConfigSnapshot.LIST) {
+        ImmutableList.Builder<Object> list = ImmutableList.builder();
+        for (int i = 0; i < size; i++) {
+          list.add(value());
+        }
+        return list.build();
+      } else if (tag == ConfigSnapshot.MAP) {
+        Object[] entries = new Object[size * 2];
+        for (int i = 0; i < size; i++) {
+          entries[i * 2] = nextString();
+          entries[i * 2 + 1] = value();
+        }
+        return CompactMap.of(entries, size);
+      }
+      throw new IllegalStateException("Wrong snapshot value tag: " + tag);
+    }
+
+    private String nextString() {
+      String value = string(buffer, position);
+      position = skipString(buffer, position);
+      return value;
+    }
+  }
+}
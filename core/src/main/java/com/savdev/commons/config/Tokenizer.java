@@ -0,0 +1,136 @@
+package com.savdev.commons.config;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.savdev.commons.config.FileConfig.WRONG_MAP_CONFIG_FORMAT_MSG;
+
+/**
+ * Parses list and map values with precompiled {@link Separator}s.
+ *
+ * Nested values are parsed by ranges of the original string,
+ * only keys and leaf values are copied into new strings.
+ * Results are immutable: lists are {@link ImmutableList}s, maps are {@link CompactMap}s,
+ * empty values are shared empty collections.
+ */
+final class Tokenizer {
+
+  @FunctionalInterface
+  interface ValueParser<V> {
+    V parse(String source, int from, int to);
+  }
+
+  private Tokenizer() {
+  }
+
+  static ValueParser<String> string() {
+    return String::substring;
+  }
+
+  static ValueParser<List<String>> list(final Separator itemsSeparator) {
+    return (source, from, to) -> {
+      ImmutableList.Builder<String> items = ImmutableList.builder();
+      itemsSeparator.split(source, from, to,
+        (item, itemFrom, itemTo) -> items.add(item.substring(itemFrom, itemTo)));
+      return items.build();
+    };
+  }
+
+  static <V> ValueParser<Map<String, V>> map(
+    final Separator itemsSeparator,
+    final Separator keyValueSeparator,
+    final ValueParser<V> valueParser) {
+    return (source, from, to) -> {
+      Entries entries = new Entries();
+      KeyValue keyValue = new KeyValue();
+      itemsSeparator.split(source, from, to, (item, itemFrom, itemTo) -> {
+        keyValue.tokens = 0;
+        keyValueSeparator.split(item, itemFrom, itemTo, keyValue);
+        if (keyValue.tokens != 2) {
+          throw new IllegalStateException(
+            String.format(WRONG_MAP_CONFIG_FORMAT_MSG,
+              keyValueSeparator,
+              item.substring(itemFrom, itemTo)));
+        }
+        entries.add(
+          keyValue.keySource.substring(keyValue.keyFrom, keyValue.keyTo),
+          valueParser.parse(keyValue.valueSource, keyValue.valueFrom, keyValue.valueTo));
+      });
+      return CompactMap.of(entries.entries, entries.size);
+    };
+  }
+
+  /**
+   * @return items of the value, each item is found and copied, only when the stream requests it
+   */
+  static Stream<String> items(final Separator itemsSeparator, final String value) {
+    return StreamSupport.stream(itemsSeparator.spliterator(value), false);
+  }
+
+  /**
+   * @return the key-value pair of a map item
+   */
+  static Map.Entry<String, String> entry(final Separator keyValueSeparator, final String item) {
+    KeyValue keyValue = new KeyValue();
+    keyValueSeparator.split(item, 0, item.length(), keyValue);
+    if (keyValue.tokens != 2) {
+      throw new IllegalStateException(
+        String.format(WRONG_MAP_CONFIG_FORMAT_MSG, keyValueSeparator, item));
+    }
+    return new AbstractMap.SimpleImmutableEntry<>(
+      keyValue.keySource.substring(keyValue.keyFrom, keyValue.keyTo),
+      keyValue.valueSource.substring(keyValue.valueFrom, keyValue.valueTo));
+  }
+
+  /**
+   * Growing array of keys and values, copied into a map of the exact size.
+   */
+  private static class Entries {
+
+    Object[] entries = new Object[8];
+    int size;
+
+    void add(String key, Object value) {
+      if (size * 2 == entries.length) {
+        entries = Arrays.copyOf(entries, entries.length * 2);
+      }
+      entries[size * 2] = key;
+      entries[size * 2 + 1] = value;
+      size++;
+    }
+  }
+
+  /**
+   * Ranges of the first two tokens of a key-value pair and the number of tokens.
+   */
+  private static class KeyValue implements Separator.TokenConsumer {
+
+    int tokens;
+    String keySource;
+    int keyFrom;
+    int keyTo;
+    String valueSource;
+    int valueFrom;
+    int valueTo;
+
+    @Override
+    public void accept(String source, int from, int to) {
+      if (tokens == 0) {
+        keySource = source;
+        keyFrom = from;
+        keyTo = to;
+      } else if (tokens == 1) {
+        valueSource = source;
+        valueFrom = from;
+        valueTo = to;
+      }
+      tokens++;
+    }
+  }
+}
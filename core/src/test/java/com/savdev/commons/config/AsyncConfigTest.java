@@ -0,0 +1,118 @@
+package com.savdev.commons.config;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static com.savdev.commons.config.ConfigFactoryTest.SINGLE_STRING_PROPERTY;
+
+public class AsyncConfigTest {
+
+  private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+  private final CountDownLatch started = new CountDownLatch(1);
+
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  private final AtomicInteger proxies = new AtomicInteger();
+
+  @After
+  public void tearDown() {
+    release.countDown();
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void testProxyOnExecutor() throws Exception {
+    Thread caller = Thread.currentThread();
+    AsyncConfig asyncConfig = Configs.asyncConfig(() -> {
+      Assert.assertNotSame(caller, Thread.currentThread());
+      return Configs.immutableFileConfig(
+        AsyncConfigTest.class.getClassLoader().getResourceAsStream(SINGLE_STRING_PROPERTY));
+    });
+    Assert.assertEquals("test.value1",
+      asyncConfig.proxy(TestPropertiesConfig.class).get(10, TimeUnit.SECONDS).someProperty1());
+  }
+
+  @Test
+  public void testError() throws Exception {
+    CompletableFuture<TestPropertiesConfig> config = Configs.asyncConfig(
+      () -> Configs.fileConfig("async.config.test.not.existing.folder", "test.properties"))
+      .proxy(TestPropertiesConfig.class);
+    try {
+      config.get(10, TimeUnit.SECONDS);
+      Assert.fail();
+    } catch (ExecutionException e) {
+      Assert.assertEquals(IllegalStateException.class, e.getCause().getClass());
+      Assert.assertEquals("System property is not defined: async.config.test.not.existing.folder",
+        e.getCause().getMessage());
+    }
+  }
+
+  @Test
+  public void testTimeout() throws Exception {
+    CompletableFuture<TestPropertiesConfig> config = blockedConfig()
+      .proxy(TestPropertiesConfig.class, Duration.ofMillis(50));
+    try {
+      config.get(10, TimeUnit.SECONDS);
+      Assert.fail();
+    } catch (ExecutionException e) {
+      Assert.assertEquals(TimeoutException.class, e.getCause().getClass());
+      Assert.assertEquals(
+        String.format(AsyncConfig.TIMEOUT_FORMAT_MSG, TestPropertiesConfig.class.getName(), Duration.ofMillis(50)),
+        e.getCause().getMessage());
+    }
+    release.countDown();
+    executor.submit(() -> { }).get(10, TimeUnit.SECONDS);
+    Assert.assertEquals(0, proxies.get());
+  }
+
+  @Test
+  public void testCancellation() throws Exception {
+    AsyncConfig asyncConfig = blockedConfig();
+    CompletableFuture<TestPropertiesConfig> cancelled = asyncConfig.proxy(TestPropertiesConfig.class);
+    CompletableFuture<TestPropertiesConfig> loaded = asyncConfig.proxy(TestPropertiesConfig.class);
+    Assert.assertTrue(cancelled.cancel(true));
+    release.countDown();
+
+    Assert.assertEquals("test.value1", loaded.get(10, TimeUnit.SECONDS).someProperty1());
+    Assert.assertTrue(cancelled.isCancelled());
+    Assert.assertEquals(1, proxies.get());
+  }
+
+  /**
+   * @return config, the factory of which is created, when the test releases it,
+   *         proxies of the factory are counted
+   */
+  private AsyncConfig blockedConfig() throws InterruptedException {
+    AsyncConfig asyncConfig = Configs.asyncConfig(() -> {
+      started.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        throw new IllegalStateException(e);
+      }
+      ConfigFactory factory = Configs.immutableFileConfig(
+        AsyncConfigTest.class.getClassLoader().getResourceAsStream(SINGLE_STRING_PROPERTY));
+      return new ConfigFactory() {
+        @Override
+        public <T> T proxy(Class<T> configInterface) {
+          proxies.incrementAndGet();
+          return factory.proxy(configInterface);
+        }
+      };
+    }, executor);
+    started.await();
+    return asyncConfig;
+  }
+}
@@ -0,0 +1,83 @@
+package com.savdev.commons.config;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+
+public class CompactIndexedMapTest {
+
+  private static final IndexedMap<String> ROUTES = CompactIndexedMap.of(ImmutableMap.of(
+    "/api/v1", "service1",
+    "/api", "service2",
+    "/static", "service2",
+    "/api/v10", "service3",
+    "/", "service4"));
+
+  @Test
+  public void testKeysWithPrefix(){
+    Assert.assertEquals(Lists.newArrayList("/api", "/api/v1", "/api/v10"), ROUTES.keysWithPrefix("/api"));
+    Assert.assertEquals(Lists.newArrayList("/api/v1", "/api/v10"), ROUTES.keysWithPrefix("/api/v1"));
+    Assert.assertEquals(5, ROUTES.keysWithPrefix("").size());
+    Assert.assertEquals(Collections.emptyList(), ROUTES.keysWithPrefix("/b"));
+    Assert.assertEquals(Collections.emptyList(), ROUTES.keysWithPrefix("/static/css"));
+  }
+
+  @Test
+  public void testLongestPrefixKey(){
+    Assert.assertEquals(Optional.of("/api/v1"), ROUTES.longestPrefixKey("/api/v1/users"));
+    Assert.assertEquals(Optional.of("/api/v10"), ROUTES.longestPrefixKey("/api/v10"));
+    Assert.assertEquals(Optional.of("/api"), ROUTES.longestPrefixKey("/api/v2/users"));
+    Assert.assertEquals(Optional.of("/"), ROUTES.longestPrefixKey("/assets"));
+    Assert.assertEquals(Optional.of("/static"), ROUTES.longestPrefixKey("/static-files"));
+    Assert.assertEquals(Optional.of("/"), ROUTES.longestPrefixKey("/stat"));
+    Assert.assertEquals(Optional.empty(), ROUTES.longestPrefixKey("api"));
+    Assert.assertEquals(Optional.empty(), ROUTES.longestPrefixKey(""));
+  }
+
+  @Test
+  public void testKeysOf(){
+    Assert.assertEquals(Lists.newArrayList("/api", "/static"), ROUTES.keysOf("service2"));
+    Assert.assertEquals(Collections.emptyList(), ROUTES.keysOf("service5"));
+  }
+
+  @Test
+  public void testSameAsScan(){
+    Map<String, String> map = new LinkedHashMap<>();
+    for (int i = 0; i < 1000; i++) {
+      map.put("key." + i, "value." + i % 7);
+    }
+    IndexedMap<String> indexed = CompactIndexedMap.of(map);
+    Assert.assertEquals(map, indexed);
+    for (String prefix : new String[]{"key.1", "key.99", "key.999", "key.5", "x"}) {
+      Assert.assertEquals(
+        map.keySet().stream().filter(key -> key.startsWith(prefix)).sorted().collect(Collectors.toList()),
+        indexed.keysWithPrefix(prefix));
+    }
+    Assert.assertEquals(Optional.of("key.99"), indexed.longestPrefixKey("key.99x"));
+    Assert.assertEquals(
+      map.entrySet().stream().filter(entry -> entry.getValue().equals("value.3"))
+         .map(Map.Entry::getKey).collect(Collectors.toList()),
+      indexed.keysOf("value.3"));
+  }
+
+  @Test
+  public void testEmpty(){
+    IndexedMap<String> empty = CompactIndexedMap.of(Collections.emptyMap());
+    Assert.assertTrue(empty.isEmpty());
+    Assert.assertEquals(Collections.emptyList(), empty.keysWithPrefix(""));
+    Assert.assertEquals(Optional.empty(), empty.longestPrefixKey("value"));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testImmutable(){
+    ROUTES.put("/b", "service5");
+  }
+}
@@ -0,0 +1,55 @@
+package com.savdev.commons.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CompactMapTest {
+
+  @Test
+  public void testSameAsCopiedMap(){
+    for (int size : new int[]{0, 1, 2, CompactMap.MAX_SCANNED_SIZE, CompactMap.MAX_SCANNED_SIZE + 1, 1000}) {
+      Map<String, String> map = new LinkedHashMap<>();
+      for (int i = 0; i < size; i++) {
+        map.put("key." + i, "value " + i);
+      }
+      Map<String, String> compact = CompactMap.copyOf(map);
+      Assert.assertEquals(map, compact);
+      Assert.assertEquals(map.hashCode(), compact.hashCode());
+      Assert.assertEquals(new ArrayList<>(map.keySet()), new ArrayList<>(compact.keySet()));
+      for (int i = 0; i < size; i++) {
+        Assert.assertEquals("value " + i, compact.get(new String("key." + i)));
+      }
+      Assert.assertNull(compact.get("key." + size));
+      Assert.assertNull(compact.get(null));
+      Assert.assertFalse(compact.containsKey("not.existing"));
+    }
+  }
+
+  @Test
+  public void testDuplicateKey(){
+    for (int size : new int[]{2, CompactMap.MAX_SCANNED_SIZE + 1}) {
+      Object[] entries = new Object[size * 2];
+      for (int i = 0; i < size; i++) {
+        entries[i * 2] = "key." + i;
+        entries[i * 2 + 1] = "value";
+      }
+      entries[(size - 1) * 2] = "key.0";
+      try {
+        CompactMap.of(entries, size);
+        Assert.fail();
+      } catch (IllegalStateException e) {
+        Assert.assertEquals(String.format(CompactMap.DUPLICATE_KEY_FORMAT_MSG, "key.0"), e.getMessage());
+      }
+    }
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testImmutable(){
+    CompactMap.copyOf(Collections.singletonMap("key", "value")).put("key", "other");
+  }
+}
@@ -0,0 +1,161 @@
+package com.savdev.commons.config;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.spi.Context;
+import javax.enterprise.inject.spi.AfterBeanDiscovery;
+import javax.enterprise.inject.spi.AnnotatedType;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.InjectionPoint;
+import javax.enterprise.inject.spi.ObserverMethod;
+import javax.enterprise.inject.spi.ProcessInjectionPoint;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import static com.savdev.commons.config.ConfigFactoryTest.SINGLE_STRING_PROPERTY;
+import static com.savdev.commons.config.TestPropertiesConfig.INT_PROP_KEY4;
+import static com.savdev.commons.config.TestPropertiesConfig.STRING_PROP_KEY1;
+
+public class ConfigExtensionTest {
+
+  private static final String NOT_EXISTING_RESOURCE = "configs/not.existing.properties";
+
+  private final ConfigExtension extension = new ConfigExtension();
+
+  private final Discovery discovery = new Discovery();
+
+  @Test
+  public void testBeans() {
+    extension.register(StringConfig.class);
+    extension.register(IntConfig.class);
+    extension.register(NotExistingStringConfig.class);
+    extension.afterBeanDiscovery(discovery);
+
+    Assert.assertTrue(discovery.errors.isEmpty());
+    Assert.assertEquals(2, discovery.beans.size());
+    Bean<?> bean = discovery.beans.get(0);
+    Assert.assertEquals(ApplicationScoped.class, bean.getScope());
+    Assert.assertTrue(bean.getTypes().contains(StringConfig.class));
+    StringConfig config = (StringConfig) bean.create(null);
+    Assert.assertEquals("test.value1", config.someProperty1());
+    Assert.assertSame(config, bean.create(null));
+    Assert.assertEquals(23, ((IntConfig) discovery.beans.get(1).create(null)).intProperty());
+  }
+
+  @Test
+  public void testErrorsOfAllInterfaces() {
+    extension.register(StringConfig.class);
+    extension.register(WrongConfig.class);
+    extension.register(NotExistingFileConfig.class);
+    extension.afterBeanDiscovery(discovery);
+
+    Assert.assertTrue(discovery.beans.isEmpty());
+    Assert.assertEquals(1, discovery.errors.size());
+    String message = discovery.errors.get(0).getMessage();
+    Assert.assertTrue(message.contains(WrongConfig.class.getName()));
+    Assert.assertTrue(message.contains(
+      String.format(ConfigExtension.NOT_EXISTING_RESOURCE_FORMAT_MSG, NOT_EXISTING_RESOURCE)));
+    Assert.assertFalse(message.contains(StringConfig.class.getName()));
+  }
+
+  @Test
+  public void testInjectionPoints() {
+    extension.processInjectionPoint(injectionPoint(StringConfig.class));
+    extension.processInjectionPoint(injectionPoint(StringConfig.class));
+    extension.processInjectionPoint(injectionPoint(String.class));
+    extension.afterBeanDiscovery(discovery);
+
+    Assert.assertTrue(discovery.errors.isEmpty());
+    Assert.assertEquals(1, discovery.beans.size());
+    Assert.assertEquals("test.value1", ((StringConfig) discovery.beans.get(0).create(null)).someProperty1());
+  }
+
+  @Test
+  public void testNoConfigFiles() {
+    extension.register(NotExistingStringConfig.class);
+    extension.afterBeanDiscovery(discovery);
+    Assert.assertTrue(discovery.beans.isEmpty());
+    Assert.assertTrue(discovery.errors.isEmpty());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ProcessInjectionPoint<Object, Object> injectionPoint(final Class<?> type) {
+    InjectionPoint injectionPoint = (InjectionPoint) Proxy.newProxyInstance(
+      ConfigExtensionTest.class.getClassLoader(),
+      new Class<?>[]{InjectionPoint.class},
+      (proxy, method, methodArgs) -> type);
+    return (ProcessInjectionPoint<Object, Object>) Proxy.newProxyInstance(
+      ConfigExtensionTest.class.getClassLoader(),
+      new Class<?>[]{ProcessInjectionPoint.class},
+      (proxy, method, methodArgs) -> injectionPoint);
+  }
+
+  @ConfigFile(SINGLE_STRING_PROPERTY)
+  public interface StringConfig {
+
+    @PropertyKey(STRING_PROP_KEY1)
+    String someProperty1();
+  }
+
+  @ConfigFile(SINGLE_STRING_PROPERTY)
+  public interface IntConfig {
+
+    @PropertyKey(INT_PROP_KEY4)
+    int intProperty();
+  }
+
+  @ConfigFile(SINGLE_STRING_PROPERTY)
+  public interface WrongConfig {
+
+    @PropertyKey(STRING_PROP_KEY1)
+    int wrongIntValue();
+  }
+
+  @ConfigFile(NOT_EXISTING_RESOURCE)
+  public interface NotExistingFileConfig {
+
+    @PropertyKey(STRING_PROP_KEY1)
+    String someProperty1();
+  }
+
+  private static final class Discovery implements AfterBeanDiscovery {
+
+    private final List<Throwable> errors = new ArrayList<>();
+
+    private final List<Bean<?>> beans = new ArrayList<>();
+
+    @Override
+    public void addDefinitionError(Throwable t) {
+      errors.add(t);
+    }
+
+    @Override
+    public void addBean(Bean<?> bean) {
+      beans.add(bean);
+    }
+
+    @Override
+    public void addObserverMethod(ObserverMethod<?> observerMethod) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void addContext(Context context) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> AnnotatedType<T> getAnnotatedType(Class<T> type, String id) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> Iterable<AnnotatedType<T>> getAnnotatedTypes(Class<T> type) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
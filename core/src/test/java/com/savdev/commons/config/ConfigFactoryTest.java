@@ -5,7 +5,12 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.InputStream;
 import java.net.URL;
+import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -15,7 +20,7 @@ import com.google.common.collect.Lists;
 
 public class ConfigFactoryTest {
 
-  private static final String SINGLE_STRING_PROPERTY = "configs/test.config.properties";
+  static final String SINGLE_STRING_PROPERTY = "configs/test.config.properties";
   private static final String STRING_PROP_VALUE1 = "test.value1";
   private static final String STRING_PROP_VALUE2 = "test.value2";
   private static final int INT_PROP_VALUE = 23;
@@ -24,7 +29,7 @@ public class ConfigFactoryTest {
   @Test
   public void testStrings(){
 
-    TestPropertiesConfig sm = Configs.fileConfig(testInputStream(SINGLE_STRING_PROPERTY))
+    TestPropertiesConfig sm = configFactory(testInputStream(SINGLE_STRING_PROPERTY))
       .proxy(TestPropertiesConfig.class);
     Assert.assertEquals(
       STRING_PROP_VALUE1,
@@ -39,7 +44,7 @@ public class ConfigFactoryTest {
   public void testOptionalString(){
     Assert.assertEquals(
       STRING_PROP_VALUE2,
-      Configs.fileConfig(testInputStream(SINGLE_STRING_PROPERTY))
+      configFactory(testInputStream(SINGLE_STRING_PROPERTY))
         .proxy(TestPropertiesConfig.class)
         .someProperty2ViaOptional()
         .get());
@@ -48,7 +53,7 @@ public class ConfigFactoryTest {
   @Test
   public void testIntPrimitive(){
 
-    TestPropertiesConfig sm = Configs.fileConfig(testInputStream(SINGLE_STRING_PROPERTY))
+    TestPropertiesConfig sm = configFactory(testInputStream(SINGLE_STRING_PROPERTY))
       .proxy(TestPropertiesConfig.class);
     Assert.assertEquals(
       INT_PROP_VALUE,
@@ -58,7 +63,7 @@ public class ConfigFactoryTest {
   @Test
   public void testInteger(){
 
-    TestPropertiesConfig sm = Configs.fileConfig(testInputStream(SINGLE_STRING_PROPERTY))
+    TestPropertiesConfig sm = configFactory(testInputStream(SINGLE_STRING_PROPERTY))
       .proxy(TestPropertiesConfig.class);
     Assert.assertEquals(
       (Integer) INT_PROP_VALUE,
@@ -69,7 +74,7 @@ public class ConfigFactoryTest {
   public void testOptionalInteger(){
     Assert.assertEquals(
       (Integer) INT_PROP_VALUE,
-      Configs.fileConfig(testInputStream(SINGLE_STRING_PROPERTY))
+      configFactory(testInputStream(SINGLE_STRING_PROPERTY))
         .proxy(TestPropertiesConfig.class)
         .intProperty2ViaOptional()
         .get());
@@ -79,7 +84,7 @@ public class ConfigFactoryTest {
   public void testListDefaultSeparator(){
     Assert.assertEquals(
       Lists.newArrayList("item1", "item2", "item3"),
-      Configs.fileConfig(testInputStream(SINGLE_STRING_PROPERTY))
+      configFactory(testInputStream(SINGLE_STRING_PROPERTY))
         .proxy(TestPropertiesConfig.class)
         .listDefaultSeparator()
     );
@@ -89,7 +94,7 @@ public class ConfigFactoryTest {
   public void testListCustomSeparator(){
     Assert.assertEquals(
       Lists.newArrayList("item1", "item2", "item3"),
-      Configs.fileConfig(testInputStream(SINGLE_STRING_PROPERTY))
+      configFactory(testInputStream(SINGLE_STRING_PROPERTY))
         .proxy(TestPropertiesConfig.class)
         .listCustomSeparator()
     );
@@ -98,7 +103,7 @@ public class ConfigFactoryTest {
   @Test
   public void testNotExistingList(){
     Assert.assertTrue(
-      Configs.fileConfig(testInputStream(SINGLE_STRING_PROPERTY))
+      configFactory(testInputStream(SINGLE_STRING_PROPERTY))
         .proxy(TestPropertiesConfig.class)
         .emptyList()
         .isEmpty());
@@ -111,7 +116,7 @@ public class ConfigFactoryTest {
         "key1", "value1",
         "key2", "value2",
         "key3", "value3"),
-      Configs.fileConfig(testInputStream(SINGLE_STRING_PROPERTY))
+      configFactory(testInputStream(SINGLE_STRING_PROPERTY))
         .proxy(TestPropertiesConfig.class)
         .defaultMap()
     );
@@ -123,7 +128,7 @@ public class ConfigFactoryTest {
       ImmutableMap.of(
         "key1", "value1",
         "key2", "value2"),
-      Configs.fileConfig(testInputStream(SINGLE_STRING_PROPERTY))
+      configFactory(testInputStream(SINGLE_STRING_PROPERTY))
         .proxy(TestPropertiesConfig.class)
         .customMap()
     );
@@ -132,7 +137,7 @@ public class ConfigFactoryTest {
   @Test
   public void testEmptyMap(){
     Assert.assertTrue(
-      Configs.fileConfig(testInputStream(SINGLE_STRING_PROPERTY))
+      configFactory(testInputStream(SINGLE_STRING_PROPERTY))
         .proxy(TestPropertiesConfig.class)
         .notExistingMap()
         .isEmpty()
@@ -146,7 +151,7 @@ public class ConfigFactoryTest {
         "key1", Lists.newArrayList("value1", "value2", "value3"),
         "key2", Lists.newArrayList("value2"),
         "key3", Lists.newArrayList("value4", "value5")),
-      Configs.fileConfig(testInputStream(SINGLE_STRING_PROPERTY))
+      configFactory(testInputStream(SINGLE_STRING_PROPERTY))
              .proxy(TestPropertiesConfig.class)
              .defaultMapOfLists()
     );
@@ -159,7 +164,7 @@ public class ConfigFactoryTest {
         "key1", ImmutableMap.of("subkey1", "value1", "subkey2", "value2"),
         "key2", ImmutableMap.of("subkey3", "value2"),
         "key3", ImmutableMap.of("subkey4", "value4", "subkey5", "value5")),
-      Configs.fileConfig(testInputStream(SINGLE_STRING_PROPERTY))
+      configFactory(testInputStream(SINGLE_STRING_PROPERTY))
              .proxy(TestPropertiesConfig.class)
              .defaultMapOfMaps()
     );
@@ -181,17 +186,64 @@ public class ConfigFactoryTest {
           Lists.newArrayList("value4_1", "value4_2"),
           "subkey5",
           Collections.singletonList("value5"))),
-      Configs.fileConfig(testInputStream(SINGLE_STRING_PROPERTY))
+      configFactory(testInputStream(SINGLE_STRING_PROPERTY))
              .proxy(TestPropertiesConfig.class)
              .defaultMapOfMapsOfLists()
     );
   }
 
+  @Test
+  public void testIndexedMap(){
+    TestPropertiesConfig config = configFactory(testInputStream(SINGLE_STRING_PROPERTY))
+      .proxy(TestPropertiesConfig.class);
+    IndexedMap<List<String>> mapOfLists = config.indexedMapOfLists();
+    Assert.assertEquals(config.defaultMapOfLists(), mapOfLists);
+    Assert.assertSame(mapOfLists, config.indexedMapOfLists());
+    Assert.assertEquals(Lists.newArrayList("key1", "key2"), mapOfLists.keysOf("value2"));
+    Assert.assertEquals(Collections.emptyList(), mapOfLists.keysOf("value6"));
+    Assert.assertEquals(Lists.newArrayList("key1", "key2", "key3"), mapOfLists.keysWithPrefix("key"));
+    Assert.assertEquals(Optional.of("key3"), mapOfLists.longestPrefixKey("key3/path"));
+
+    IndexedMap<Map<String, String>> mapOfMaps = config.indexedMapOfMaps();
+    Assert.assertEquals(config.defaultMapOfMaps(), mapOfMaps);
+    Assert.assertEquals(Lists.newArrayList("key1", "key2"), mapOfMaps.keysOf("value2"));
+  }
+
+  @Test
+  public void testStreams(){
+    TestPropertiesConfig config = configFactory(testInputStream(SINGLE_STRING_PROPERTY))
+      .proxy(TestPropertiesConfig.class);
+    Assert.assertEquals(Lists.newArrayList("item1", "item2", "item3"),
+      config.listStream().collect(Collectors.toList()));
+    Assert.assertEquals(Optional.of("item2"), config.listStream().filter(item -> item.endsWith("2")).findFirst());
+    Assert.assertEquals(Lists.newArrayList("item1", "item2", "item3"), Lists.newArrayList(config.listIterator()));
+    Assert.assertEquals(config.defaultMap(),
+      config.mapEntries().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+    Assert.assertEquals(0, config.emptyStream().count());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testUnmodifiableMapOfMaps(){
+    configFactory(testInputStream(SINGLE_STRING_PROPERTY))
+      .proxy(TestPropertiesConfig.class)
+      .defaultMapOfMaps()
+      .get("key1")
+      .put("subkey4", "value4");
+  }
+
+  @Test
+  public void testSharedEmptyValues(){
+    TestPropertiesConfig config = configFactory(testInputStream(SINGLE_STRING_PROPERTY))
+      .proxy(TestPropertiesConfig.class);
+    Assert.assertSame(config.emptyList(), config.emptyList());
+    Assert.assertSame(config.notExistingMap(), config.notExistingMap());
+  }
+
   @Test
   public void testNotExistingProperty(){
 
     try {
-      Configs.fileConfig(testInputStream(SINGLE_STRING_PROPERTY))
+      configFactory(testInputStream(SINGLE_STRING_PROPERTY))
         .proxy(NotExistingStringConfig.class);
       Assert.fail();
     } catch (Exception e){
@@ -207,7 +259,7 @@ public class ConfigFactoryTest {
   public void testNotExistingPropertyAsOptional(){
 
     Assert.assertFalse(
-      Configs.fileConfig(testInputStream(SINGLE_STRING_PROPERTY))
+      configFactory(testInputStream(SINGLE_STRING_PROPERTY))
         .proxy(TestPropertiesConfig.class)
         .notExistingPropertyAsOptionalString()
         .isPresent());
@@ -217,7 +269,7 @@ public class ConfigFactoryTest {
   public void testUnsupportedReturnType(){
 
     try {
-      Configs.fileConfig(testInputStream(SINGLE_STRING_PROPERTY))
+      configFactory(testInputStream(SINGLE_STRING_PROPERTY))
         .proxy(UnsupportedReturnTypeConfig.class);
       Assert.fail();
     } catch (Exception e){
@@ -232,10 +284,47 @@ public class ConfigFactoryTest {
     }
   }
 
+  @Test
+  public void testTypedValues(){
+    TypedValuesConfig config = configFactory(testInputStream(SINGLE_STRING_PROPERTY))
+      .proxy(TypedValuesConfig.class);
+    Assert.assertEquals(9_000_000_000L, config.longProperty());
+    Assert.assertEquals((Long) 9_000_000_000L, config.longObjectProperty());
+    Assert.assertEquals(0.75, config.doubleProperty(), 0);
+    Assert.assertEquals((Double) 0.75, config.doubleObjectProperty());
+    Assert.assertTrue(config.booleanProperty());
+    Assert.assertEquals(Boolean.TRUE, config.booleanObjectProperty());
+    Assert.assertEquals(Duration.ofSeconds(30), config.durationProperty());
+    Assert.assertEquals(Duration.ofSeconds(90), config.isoDurationProperty());
+    Assert.assertEquals(64L * 1024 * 1024, config.byteSizeProperty());
+    Assert.assertEquals(Optional.of(64L * 1024 * 1024), config.byteSizeViaOptional());
+    Assert.assertEquals(Optional.of(Duration.ofSeconds(30)), config.durationViaOptional());
+    Assert.assertFalse(config.notExistingBooleanViaOptional().isPresent());
+  }
+
+  @Test
+  public void testByteSizeOfNotLongType(){
+
+    try {
+      configFactory(testInputStream(SINGLE_STRING_PROPERTY))
+        .proxy(WrongByteSizeConfig.class);
+      Assert.fail();
+    } catch (Exception e){
+      Assert.assertEquals(IllegalStateException.class, e.getClass());
+      Assert.assertEquals(
+        String.format(FileConfig.WRONG_PROXY_CONFIG_FORMAT_MSG,
+          String.format(
+            FileConfig.UNSUPPORTED_RETURN_TYPE_FORMAT_MSG,
+            int.class.getName(),
+            "byteSizeAsInt")),
+        e.getMessage());
+    }
+  }
+
   @Test
   public void testNotExistingFile(){
     try {
-      Configs.fileConfig(new FileInputStream(NOT_EXISTING_FILE))
+      configFactory(new FileInputStream(NOT_EXISTING_FILE))
         .proxy(TestPropertiesConfig.class);
       Assert.fail();
     } catch (Exception e){
@@ -248,7 +337,7 @@ public class ConfigFactoryTest {
   @Test
   public void testDefaultMethod(){
     try {
-      Configs.fileConfig(testInputStream(SINGLE_STRING_PROPERTY))
+      configFactory(testInputStream(SINGLE_STRING_PROPERTY))
         .proxy(DefaultMethodConfig.class);
       Assert.fail();
     } catch (Exception e){
@@ -260,7 +349,22 @@ public class ConfigFactoryTest {
     }
   }
 
-  private InputStream  testInputStream(String filePath) {
+  @Test
+  public void testSeveralProxiesOfOneFactory(){
+    ConfigFactory configFactory = configFactory(testInputStream(SINGLE_STRING_PROPERTY));
+    Assert.assertEquals(
+      STRING_PROP_VALUE1,
+      configFactory.proxy(TestPropertiesConfig.class).someProperty1());
+    Assert.assertEquals(
+      STRING_PROP_VALUE1,
+      configFactory.proxy(TestPropertiesConfig.class).someProperty1());
+  }
+
+  protected ConfigFactory configFactory(InputStream inputStream) {
+    return Configs.fileConfig(inputStream);
+  }
+
+  protected InputStream testInputStream(String filePath) {
     try {
       String withoutFirstSlash = filePath.startsWith(File.separator) ?
         filePath.substring(File.separator.length()) : filePath;
@@ -0,0 +1,131 @@
+package com.savdev.commons.config;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+
+import com.google.common.collect.ImmutableSet;
+
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static com.savdev.commons.config.TestPropertiesConfig.NOT_EXISTING_PROP_KEY;
+
+public class ConfigMetricsTest {
+
+  private static final String FOLDER_PROPERTY = "config.metrics.test.folder";
+
+  private static final String FILE_NAME = "metrics.properties";
+
+  private static final String UNBOUND_KEY = "unbound.key";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private ConfigMetrics metrics;
+
+  @Before
+  public void setUp() throws IOException {
+    System.setProperty(FOLDER_PROPERTY, folder.getRoot().getAbsolutePath());
+    File file = folder.newFile(FILE_NAME);
+    Files.write(file.toPath(), (NOT_EXISTING_PROP_KEY + "=a|b|c\n" + UNBOUND_KEY + "=value")
+      .getBytes(StandardCharsets.ISO_8859_1));
+    metrics = new ConfigMetrics();
+  }
+
+  @After
+  public void tearDown() {
+    System.clearProperty(FOLDER_PROPERTY);
+  }
+
+  @Test
+  public void testLazyProxy(){
+    ListConfig config = Configs.fileConfig(FOLDER_PROPERTY, FILE_NAME, metrics).proxy(ListConfig.class);
+    config.list();
+    config.list();
+
+    KeyMetrics keyMetrics = metrics.getKeyMetrics().get(NOT_EXISTING_PROP_KEY);
+    Assert.assertEquals(2, keyMetrics.getCalls());
+    Assert.assertEquals(2, keyMetrics.getConversions());
+    Assert.assertEquals(3, keyMetrics.getValueSize());
+    Assert.assertEquals(1, metrics.getLoads());
+    Assert.assertEquals(Collections.singleton(UNBOUND_KEY), metrics.getUnboundKeys());
+  }
+
+  @Test
+  public void testImmutableProxy(){
+    ListConfig config = Configs.immutableFileConfig(FOLDER_PROPERTY, FILE_NAME, metrics).proxy(ListConfig.class);
+    config.list();
+    config.list();
+    config.list();
+
+    KeyMetrics keyMetrics = metrics.getKeyMetrics().get(NOT_EXISTING_PROP_KEY);
+    Assert.assertEquals(3, keyMetrics.getCalls());
+    Assert.assertEquals(1, keyMetrics.getConversions());
+    Assert.assertEquals(3, keyMetrics.getValueSize());
+  }
+
+  @Test
+  public void testReloadableProxy() throws IOException {
+    try (ReloadableFileConfig reloadableFileConfig = Configs.reloadableFileConfig(FOLDER_PROPERTY, FILE_NAME, metrics)) {
+      ListConfig config = reloadableFileConfig.proxy(ListConfig.class);
+      config.list();
+      Assert.assertTrue(reloadableFileConfig.reload());
+
+      Assert.assertEquals(1, metrics.getKeyMetrics().get(NOT_EXISTING_PROP_KEY).getCalls());
+      Assert.assertEquals(2, metrics.getKeyMetrics().get(NOT_EXISTING_PROP_KEY).getConversions());
+      Assert.assertEquals(3, metrics.getKeyMetrics().get(NOT_EXISTING_PROP_KEY).getValueSize());
+      Assert.assertEquals(2, metrics.getLoads());
+      Assert.assertTrue(metrics.getLoadTimeNanos() >= metrics.getLastLoadTimeNanos());
+    }
+  }
+
+  @Test
+  public void testSharedMetrics() throws IOException {
+    String otherFileName = "other.metrics.properties";
+    Files.write(folder.newFile(otherFileName).toPath(),
+      (NOT_EXISTING_PROP_KEY + "=a\nother.unbound.key=value").getBytes(StandardCharsets.ISO_8859_1));
+
+    Configs.fileConfig(FOLDER_PROPERTY, FILE_NAME, metrics).proxy(ListConfig.class);
+    Configs.fileConfig(FOLDER_PROPERTY, otherFileName, metrics).proxy(ListConfig.class);
+    Configs.fileConfig(FOLDER_PROPERTY, FILE_NAME, metrics).proxy(ListConfig.class);
+
+    Assert.assertEquals(3, metrics.getLoads());
+    Assert.assertEquals(ImmutableSet.of("other.unbound.key", UNBOUND_KEY), metrics.getUnboundKeys());
+  }
+
+  @Test
+  public void testJmx() throws Exception {
+    ObjectName objectName = metrics.register(FILE_NAME);
+    try {
+      Configs.fileConfig(FOLDER_PROPERTY, FILE_NAME, metrics).proxy(ListConfig.class).list();
+
+      Assert.assertEquals(1L, ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "Loads"));
+      Assert.assertArrayEquals(new String[]{UNBOUND_KEY},
+        (String[]) ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "UnboundKeys"));
+      TabularData keyMetrics = (TabularData) ManagementFactory.getPlatformMBeanServer()
+        .getAttribute(objectName, "KeyMetrics");
+      CompositeData listMetrics = (CompositeData) keyMetrics.get(new Object[]{NOT_EXISTING_PROP_KEY}).get("value");
+      Assert.assertEquals(1L, listMetrics.get("calls"));
+    } finally {
+      metrics.unregister(FILE_NAME);
+    }
+  }
+
+  public interface ListConfig {
+
+    @PropertyKey(NOT_EXISTING_PROP_KEY)
+    java.util.List<String> list();
+  }
+}
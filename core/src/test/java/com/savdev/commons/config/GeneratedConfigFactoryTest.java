@@ -0,0 +1,28 @@
+package com.savdev.commons.config;
+
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class GeneratedConfigFactoryTest extends ConfigFactoryTest {
+
+  @Override
+  protected ConfigFactory configFactory(InputStream inputStream) {
+    return Configs.generatedFileConfig(inputStream);
+  }
+
+  @Test
+  public void testGeneratedClass(){
+    TestPropertiesConfig config1 = configFactory(testInputStream(SINGLE_STRING_PROPERTY))
+      .proxy(TestPropertiesConfig.class);
+    TestPropertiesConfig config2 = configFactory(testInputStream(SINGLE_STRING_PROPERTY))
+      .proxy(TestPropertiesConfig.class);
+    Assert.assertFalse(Proxy.isProxyClass(config1.getClass()));
+    Assert.assertEquals(
+      TestPropertiesConfig.class.getName() + GeneratedConfig.IMPLEMENTATION_SUFFIX,
+      config1.getClass().getName());
+    Assert.assertSame(config1.getClass(), config2.getClass());
+  }
+}
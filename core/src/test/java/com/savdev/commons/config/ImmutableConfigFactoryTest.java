@@ -0,0 +1,61 @@
+package com.savdev.commons.config;
+
+import java.io.InputStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ImmutableConfigFactoryTest extends ConfigFactoryTest {
+
+  @Override
+  protected ConfigFactory configFactory(InputStream inputStream) {
+    return Configs.immutableFileConfig(inputStream);
+  }
+
+  @Test
+  public void testSameValueOnEachCall(){
+    TestPropertiesConfig config = configFactory(testInputStream(SINGLE_STRING_PROPERTY))
+      .proxy(TestPropertiesConfig.class);
+    Assert.assertSame(
+      config.defaultMapOfMapsOfLists(),
+      config.defaultMapOfMapsOfLists());
+    Assert.assertSame(
+      config.integerProperty(),
+      config.integerProperty());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testUnmodifiableList(){
+    configFactory(testInputStream(SINGLE_STRING_PROPERTY))
+      .proxy(TestPropertiesConfig.class)
+      .listDefaultSeparator()
+      .add("item4");
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testUnmodifiableNestedMap(){
+    configFactory(testInputStream(SINGLE_STRING_PROPERTY))
+      .proxy(TestPropertiesConfig.class)
+      .defaultMapOfMapsOfLists()
+      .get("key1")
+      .get("subkey1")
+      .clear();
+  }
+
+  @Test
+  public void testWrongValueOnCreation(){
+    try {
+      configFactory(testInputStream(SINGLE_STRING_PROPERTY))
+        .proxy(WrongIntValueConfig.class);
+      Assert.fail();
+    } catch (Exception e){
+      Assert.assertEquals(IllegalStateException.class, e.getClass());
+      Assert.assertTrue(e.getMessage().startsWith(
+        String.format(FileConfig.WRONG_PROXY_CONFIG_FORMAT_MSG,
+          String.format(FileConfig.WRONG_PROPERTY_VALUE_FORMAT_MSG,
+            TestPropertiesConfig.STRING_PROP_KEY1,
+            "wrongIntValue",
+            ""))));
+    }
+  }
+}
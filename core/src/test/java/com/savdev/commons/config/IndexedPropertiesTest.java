@@ -0,0 +1,85 @@
+package com.savdev.commons.config;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class IndexedPropertiesTest {
+
+  static final String FORMAT_CASES =
+    "# comment\n"
+      + "  ! another comment \\\n"
+      + "key1=value1\n"
+      + "key2 = value2 \r\n"
+      + "key3:value3\r"
+      + "key4 value4\n"
+      + "\tkey5\t=\t\n"
+      + "key6\n"
+      + "key\\ 7=\\u0041\\t\\n\\r\\f\\=\\\\\n"
+      + "key8=first\\\n"
+      + "     second\\\r\n"
+      + "\t   third\n"
+      + "key9=\\\\\n"
+      + "key1=overridden\n"
+      + "key10=#not a comment\n"
+      + "key11=line\\\n"
+      + "\n"
+      + "key12=last\\";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testSameAsProperties() throws IOException {
+    Assert.assertEquals(
+      properties(FORMAT_CASES),
+      IndexedProperties.of(ByteBuffer.wrap(FORMAT_CASES.getBytes(StandardCharsets.ISO_8859_1))));
+  }
+
+  @Test
+  public void testMappedTestConfig() throws IOException {
+    Path file = folder.newFile().toPath();
+    try (InputStream inputStream = getClass().getResourceAsStream("/" + ConfigFactoryTest.SINGLE_STRING_PROPERTY)) {
+      Files.copy(inputStream, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+    Assert.assertEquals(
+      properties(new String(Files.readAllBytes(file), StandardCharsets.ISO_8859_1)),
+      IndexedProperties.map(file));
+    Assert.assertEquals(
+      23,
+      new FileConfig(PropertySources.mappedFile(file), false)
+        .proxy(TestPropertiesConfig.class)
+        .intProperty());
+  }
+
+  @Test
+  public void testMappedProxyDoesNotReadChangedFile() throws IOException {
+    Path file = folder.newFile().toPath();
+    try (InputStream inputStream = getClass().getResourceAsStream("/" + ConfigFactoryTest.SINGLE_STRING_PROPERTY)) {
+      Files.copy(inputStream, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+    TestPropertiesConfig config = new FileConfig(PropertySources.mappedFile(file), false)
+      .proxy(TestPropertiesConfig.class);
+
+    Files.write(file, "test.key4=4".getBytes(StandardCharsets.ISO_8859_1));
+    Assert.assertEquals(23, config.intProperty());
+    Assert.assertEquals("test.value1", config.someProperty1());
+  }
+
+  private Properties properties(final String content) throws IOException {
+    Properties properties = new Properties();
+    properties.load(new ByteArrayInputStream(content.getBytes(StandardCharsets.ISO_8859_1)));
+    return properties;
+  }
+}
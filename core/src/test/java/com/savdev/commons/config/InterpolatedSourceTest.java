@@ -0,0 +1,117 @@
+package com.savdev.commons.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class InterpolatedSourceTest {
+
+  private static final String SYSTEM_PROPERTY = "interpolated.source.test.user";
+
+  private final Map<String, String> properties = new HashMap<>();
+
+  private Map<String, String> loaded;
+
+  private final InterpolatedSource source = new InterpolatedSource(() -> loaded);
+
+  @After
+  public void tearDown() {
+    System.clearProperty(SYSTEM_PROPERTY);
+  }
+
+  @Test
+  public void testReferences(){
+    System.setProperty(SYSTEM_PROPERTY, "admin");
+    properties.put("url", "http://${host}:${port}/${path}?user=${sys:" + SYSTEM_PROPERTY + "}");
+    properties.put("path", "${base}/api");
+    properties.put("host", "example.com");
+    properties.put("port", "8080");
+    properties.put("base", "v1");
+    properties.put("not.closed", "${host");
+
+    Map<String, String> resolved = load();
+    Assert.assertEquals("http://example.com:8080/v1/api?user=admin", resolved.get("url"));
+    Assert.assertEquals("v1/api", resolved.get("path"));
+    Assert.assertEquals("${host", resolved.get("not.closed"));
+    Assert.assertEquals(2, source.lastResolvedValues);
+  }
+
+  @Test
+  public void testOnlyChangedValuesAreResolved(){
+    properties.put("url", "http://${host}/${path}");
+    properties.put("path", "${base}/api");
+    properties.put("mail", "admin@${domain}");
+    properties.put("host", "example.com");
+    properties.put("base", "v1");
+    properties.put("domain", "example.com");
+    Map<String, String> resolved = load();
+    Assert.assertEquals(3, source.lastResolvedValues);
+    Assert.assertSame(resolved, source.properties());
+
+    properties.put("base", "v2");
+    resolved = load();
+    Assert.assertEquals("http://example.com/v2/api", resolved.get("url"));
+    Assert.assertEquals("admin@example.com", resolved.get("mail"));
+    Assert.assertEquals(2, source.lastResolvedValues);
+
+    properties.put("mail", "support@${domain}");
+    resolved = load();
+    Assert.assertEquals("support@example.com", resolved.get("mail"));
+    Assert.assertEquals(1, source.lastResolvedValues);
+  }
+
+  @Test
+  public void testChangedSystemProperty(){
+    System.setProperty(SYSTEM_PROPERTY, "admin");
+    properties.put("user", "${sys:" + SYSTEM_PROPERTY + "}");
+    properties.put("home", "/home/${user}");
+    Assert.assertEquals("/home/admin", load().get("home"));
+
+    System.setProperty(SYSTEM_PROPERTY, "guest");
+    Assert.assertEquals("/home/guest", source.properties().get("home"));
+    Assert.assertEquals(2, source.lastResolvedValues);
+  }
+
+  @Test
+  public void testCycle(){
+    properties.put("a", "${b}");
+    properties.put("b", "x${a}");
+    properties.put("c", "${a}");
+    try {
+      load();
+      Assert.fail();
+    } catch (IllegalStateException e) {
+      Assert.assertEquals(String.format(PropertySources.CYCLIC_REFERENCES_FORMAT_MSG, "a -> b -> a"), e.getMessage());
+    }
+  }
+
+  @Test
+  public void testNotExistingReference(){
+    properties.put("a", "${b}");
+    try {
+      load();
+      Assert.fail();
+    } catch (IllegalStateException e) {
+      Assert.assertEquals(String.format(PropertySources.NOT_EXISTING_REFERENCE_FORMAT_MSG, "a", "b"), e.getMessage());
+    }
+  }
+
+  @Test
+  public void testConfig(){
+    properties.put(TestPropertiesConfig.STRING_PROP_KEY1, "${" + TestPropertiesConfig.STRING_PROP_KEY2 + "}.1");
+    properties.put(TestPropertiesConfig.STRING_PROP_KEY2, "value");
+    loaded = new HashMap<>(properties);
+    Assert.assertEquals("value.1",
+      Configs.layeredConfig(PropertySources.interpolated(() -> loaded))
+        .proxy(LayeredConfigTest.StringsConfig.class)
+        .someProperty1());
+  }
+
+  private Map<String, String> load() {
+    loaded = new HashMap<>(properties);
+    return source.properties();
+  }
+}
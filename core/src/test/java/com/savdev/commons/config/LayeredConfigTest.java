@@ -0,0 +1,89 @@
+package com.savdev.commons.config;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static com.savdev.commons.config.TestPropertiesConfig.STRING_PROP_KEY1;
+import static com.savdev.commons.config.TestPropertiesConfig.STRING_PROP_KEY2;
+
+public class LayeredConfigTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private Path baseFile;
+
+  private Path hostFile;
+
+  @Before
+  public void setUp() throws IOException {
+    baseFile = folder.newFile("base.properties").toPath();
+    hostFile = new File(folder.getRoot(), "host.properties").toPath();
+    write(baseFile, STRING_PROP_KEY1 + "=base.value1\n" + STRING_PROP_KEY2 + "=base.value2");
+  }
+
+  @After
+  public void tearDown() {
+    System.clearProperty(STRING_PROP_KEY2);
+  }
+
+  @Test
+  public void testPriority() throws IOException {
+    write(hostFile, STRING_PROP_KEY1 + "=host.value1");
+    System.setProperty(STRING_PROP_KEY2, "system.value2");
+
+    StringsConfig config = Configs.layeredConfig(
+      PropertySources.file(baseFile),
+      PropertySources.optionalFile(hostFile),
+      PropertySources.systemProperties())
+      .proxy(StringsConfig.class);
+    Assert.assertEquals("host.value1", config.someProperty1());
+    Assert.assertEquals("system.value2", config.someProperty2());
+  }
+
+  @Test
+  public void testNotExistingOptionalFile() {
+    StringsConfig config = Configs.layeredConfig(
+      PropertySources.file(baseFile),
+      PropertySources.optionalFile(hostFile))
+      .proxy(StringsConfig.class);
+    Assert.assertEquals("base.value1", config.someProperty1());
+  }
+
+  @Test
+  public void testReloadOverrideFile() throws IOException {
+    try (ReloadableFileConfig reloadableConfig = Configs.reloadableLayeredConfig(
+      PropertySources.file(baseFile),
+      PropertySources.optionalFile(hostFile))) {
+      StringsConfig config = reloadableConfig.proxy(StringsConfig.class);
+      Assert.assertEquals("base.value1", config.someProperty1());
+
+      write(hostFile, STRING_PROP_KEY1 + "=host.value1");
+      Assert.assertTrue(reloadableConfig.reload());
+      Assert.assertEquals("host.value1", config.someProperty1());
+    }
+  }
+
+  public interface StringsConfig {
+
+    @PropertyKey(STRING_PROP_KEY1)
+    String someProperty1();
+
+    @PropertyKey(STRING_PROP_KEY2)
+    String someProperty2();
+  }
+
+  private void write(final Path file, final String content) throws IOException {
+    Files.write(file, content.getBytes(StandardCharsets.ISO_8859_1));
+  }
+}
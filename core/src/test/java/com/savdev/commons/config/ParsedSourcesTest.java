@@ -0,0 +1,91 @@
+package com.savdev.commons.config;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ParsedSourcesTest {
+
+  private static final String FOLDER_PROPERTY = "parsed.sources.test.folder";
+
+  private static final String FILE_NAME = "parsed.properties";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private File file;
+
+  @Before
+  public void setUp() throws IOException {
+    System.setProperty(FOLDER_PROPERTY, folder.getRoot().getAbsolutePath());
+    file = folder.newFile(FILE_NAME);
+    write("initial.value");
+  }
+
+  @After
+  public void tearDown() {
+    System.clearProperty(FOLDER_PROPERTY);
+  }
+
+  @Test
+  public void testProxiesAreShared(){
+    NotExistingStringConfig config = Configs.fileConfig(FOLDER_PROPERTY, FILE_NAME)
+      .proxy(NotExistingStringConfig.class);
+    Assert.assertSame(config,
+      Configs.fileConfig(FOLDER_PROPERTY, FILE_NAME).proxy(NotExistingStringConfig.class));
+
+    NotExistingStringConfig immutableConfig = Configs.immutableFileConfig(FOLDER_PROPERTY, FILE_NAME)
+      .proxy(NotExistingStringConfig.class);
+    Assert.assertNotSame(config, immutableConfig);
+    Assert.assertSame(immutableConfig,
+      Configs.immutableFileConfig(FOLDER_PROPERTY, FILE_NAME).proxy(NotExistingStringConfig.class));
+
+    Assert.assertSame(
+      PropertySources.file(file.toPath()).properties(),
+      PropertySources.file(file.toPath()).properties());
+  }
+
+  @Test
+  public void testChangedFileIsParsedAgain() throws IOException {
+    ConfigFactory configFactory = Configs.generatedFileConfig(FOLDER_PROPERTY, FILE_NAME);
+    NotExistingStringConfig config = configFactory.proxy(NotExistingStringConfig.class);
+    Assert.assertEquals("initial.value", config.notExistingProperty());
+
+    write("changed.value");
+    NotExistingStringConfig changedConfig = configFactory.proxy(NotExistingStringConfig.class);
+    Assert.assertNotSame(config, changedConfig);
+    Assert.assertEquals("initial.value", config.notExistingProperty());
+    Assert.assertEquals("changed.value", changedConfig.notExistingProperty());
+  }
+
+  @Test
+  public void testConfigObjectsAreNotKept() throws InterruptedException {
+    ConfigFactory configFactory = Configs.fileConfig(FOLDER_PROPERTY, FILE_NAME);
+    WeakReference<NotExistingStringConfig> config =
+      new WeakReference<>(configFactory.proxy(NotExistingStringConfig.class));
+    for (int i = 0; i < 50 && config.get() != null; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+    Assert.assertNull(config.get());
+    Assert.assertEquals("initial.value", configFactory.proxy(NotExistingStringConfig.class).notExistingProperty());
+  }
+
+  private void write(final String value) throws IOException {
+    FileTime lastModified = Files.getLastModifiedTime(file.toPath());
+    Files.write(file.toPath(),
+      (TestPropertiesConfig.NOT_EXISTING_PROP_KEY + "=" + value).getBytes(StandardCharsets.ISO_8859_1));
+    //the same file version, if the file is changed within the file system time resolution
+    Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(lastModified.toMillis() + 1000));
+  }
+}
@@ -0,0 +1,87 @@
+package com.savdev.commons.config;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PreloadedConfigTest {
+
+  private static final String NOT_EXISTING_FILE = "not_existing.file";
+
+  @Test
+  public void testValues() throws URISyntaxException {
+    ConfigFactory configFactory = Configs.preloadedConfig(
+      PropertySources.file(testFile()),
+      TestPropertiesConfig.class,
+      TypedValuesConfig.class);
+    TestPropertiesConfig config = configFactory.proxy(TestPropertiesConfig.class);
+    Assert.assertEquals("test.value1", config.someProperty1());
+    Assert.assertEquals(23, config.intProperty());
+    Assert.assertSame(config, configFactory.proxy(TestPropertiesConfig.class));
+    Assert.assertEquals(9_000_000_000L, configFactory.proxy(TypedValuesConfig.class).longProperty());
+  }
+
+  @Test
+  public void testErrorsOfAllInterfaces() throws URISyntaxException {
+    PropertySource source = PropertySources.file(testFile());
+    Map<Class<?>, PropertySource> sources = new LinkedHashMap<>();
+    sources.put(TestPropertiesConfig.class, source);
+    sources.put(NotExistingStringConfig.class, source);
+    sources.put(WrongIntValueConfig.class, source);
+    sources.put(TypedValuesConfig.class, PropertySources.file(Paths.get(NOT_EXISTING_FILE)));
+    ForkJoinPool pool = new ForkJoinPool(2);
+    try {
+      Configs.preloadedConfig(sources, pool);
+      Assert.fail();
+    } catch (Exception e){
+      Assert.assertEquals(IllegalStateException.class, e.getClass());
+      String[] errors = e.getMessage().split(NotExistingStringConfig.class.getName()
+        + "|" + WrongIntValueConfig.class.getName()
+        + "|" + TypedValuesConfig.class.getName());
+      Assert.assertEquals(4, errors.length);
+      Assert.assertEquals(String.format(PreloadedConfig.WRONG_CONFIGS_FORMAT_MSG, ""), errors[0]);
+      Assert.assertEquals(
+        ": " + String.format(FileConfig.WRONG_PROXY_CONFIG_FORMAT_MSG,
+          String.format(FileConfig.PROPERTY_DOES_NOT_EXIST_FORMAT_MSG, TestPropertiesConfig.NOT_EXISTING_PROP_KEY))
+          + ",",
+        errors[1]);
+      Assert.assertTrue(errors[2].startsWith(
+        ": " + String.format(FileConfig.WRONG_PROXY_CONFIG_FORMAT_MSG,
+          String.format(FileConfig.WRONG_PROPERTY_VALUE_FORMAT_MSG,
+            TestPropertiesConfig.STRING_PROP_KEY1,
+            "wrongIntValue",
+            ""))));
+      Assert.assertTrue(errors[3].contains(NOT_EXISTING_FILE));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testNotPreloadedInterface() throws URISyntaxException {
+    ConfigFactory configFactory = Configs.preloadedConfig(
+      PropertySources.file(testFile()),
+      TestPropertiesConfig.class);
+    try {
+      configFactory.proxy(TypedValuesConfig.class);
+      Assert.fail();
+    } catch (Exception e){
+      Assert.assertEquals(IllegalStateException.class, e.getClass());
+      Assert.assertEquals(
+        String.format(PreloadedConfig.NOT_PRELOADED_FORMAT_MSG, TypedValuesConfig.class.getName()),
+        e.getMessage());
+    }
+  }
+
+  private Path testFile() throws URISyntaxException {
+    return new File(PreloadedConfigTest.class.getClassLoader()
+      .getResource(ConfigFactoryTest.SINGLE_STRING_PROPERTY).toURI()).toPath();
+  }
+}
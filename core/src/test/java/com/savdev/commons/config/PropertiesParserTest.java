@@ -0,0 +1,163 @@
+package com.savdev.commons.config;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class PropertiesParserTest {
+
+  private static final String UTF_8_CASES =
+    "ключ=значение\n"
+      + "grüße = üß\\\n"
+      + "  €\n"
+      + "emoji=😀\n"
+      + "éscaped\\ é=\\é\\u00e9\n";
+
+  private static final String CONTINUATION_CASES =
+    "key1 \\\n"
+      + "  = value1\n"
+      + "key2\\\n"
+      + "  :\\\r\n"
+      + "  value2\n"
+      + "\\\n"
+      + "#a comment=value3\n"
+      + "\\\n"
+      + "\n"
+      + "key4=\\u00\\\n"
+      + "  41\n";
+
+  /**
+   * Characters of the format, random inputs are made of.
+   */
+  private static final String FORMAT_CHARACTERS = "ab0u=: \t\f\\\n\r#!";
+
+  private static final int RANDOM_INPUTS = 20_000;
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testSameAsProperties() throws IOException {
+    Assert.assertEquals(
+      utf8Properties(IndexedPropertiesTest.FORMAT_CASES),
+      PropertiesParser.parse(ByteBuffer.wrap(IndexedPropertiesTest.FORMAT_CASES.getBytes(StandardCharsets.UTF_8))));
+  }
+
+  @Test
+  public void testUtf8() throws IOException {
+    Map<String, String> parsed = PropertiesParser.parse(ByteBuffer.wrap(UTF_8_CASES.getBytes(StandardCharsets.UTF_8)));
+    Assert.assertEquals(utf8Properties(UTF_8_CASES), parsed);
+    Assert.assertEquals("üß€", parsed.get("grüße"));
+    Assert.assertEquals("😀", parsed.get("emoji"));
+    Assert.assertEquals(
+      utf8Properties(UTF_8_CASES),
+      IndexedProperties.of(ByteBuffer.wrap(UTF_8_CASES.getBytes(StandardCharsets.UTF_8))));
+  }
+
+  @Test
+  public void testInvalidUtf8IsIso88591() throws IOException {
+    String content = "key=grüße\nlast=é";
+    Properties properties = new Properties();
+    properties.load(new ByteArrayInputStream(content.getBytes(StandardCharsets.ISO_8859_1)));
+    Assert.assertEquals(
+      properties,
+      PropertiesParser.load(new ByteArrayInputStream(content.getBytes(StandardCharsets.ISO_8859_1))));
+  }
+
+  @Test
+  public void testDirectBuffer() throws IOException {
+    byte[] bytes = UTF_8_CASES.getBytes(StandardCharsets.UTF_8);
+    ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+    for (int i = 0; i < bytes.length; i++) {
+      buffer.put(i, bytes[i]);
+    }
+    Assert.assertEquals(utf8Properties(UTF_8_CASES), PropertiesParser.parse(buffer));
+    Assert.assertEquals(0, PropertiesParser.parse(ByteBuffer.allocateDirect(0)).size());
+  }
+
+  @Test
+  public void testLoadedFile() throws IOException {
+    Path file = folder.newFile().toPath();
+    try (InputStream inputStream = getClass().getResourceAsStream("/" + ConfigFactoryTest.SINGLE_STRING_PROPERTY)) {
+      Files.copy(inputStream, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+    Assert.assertEquals(
+      utf8Properties(new String(Files.readAllBytes(file), StandardCharsets.UTF_8)),
+      PropertiesParser.load(file));
+  }
+
+  @Test
+  public void testContinuations() throws IOException {
+    Map<String, String> parsed = PropertiesParser.parse(
+      ByteBuffer.wrap(CONTINUATION_CASES.getBytes(StandardCharsets.UTF_8)));
+    Assert.assertEquals(utf8Properties(CONTINUATION_CASES), parsed);
+    Assert.assertEquals("value1", parsed.get("key1"));
+    Assert.assertEquals("value2", parsed.get("key2"));
+    Assert.assertFalse(parsed.containsKey("#a"));
+    Assert.assertEquals("A", parsed.get("key4"));
+    Assert.assertEquals(
+      utf8Properties(CONTINUATION_CASES),
+      IndexedProperties.of(ByteBuffer.wrap(CONTINUATION_CASES.getBytes(StandardCharsets.UTF_8))));
+  }
+
+  @Test
+  public void testSameAsPropertiesForRandomInput() throws IOException {
+    Random random = new Random(42);
+    for (int i = 0; i < RANDOM_INPUTS; i++) {
+      char[] content = new char[random.nextInt(40)];
+      for (int j = 0; j < content.length; j++) {
+        content[j] = FORMAT_CHARACTERS.charAt(random.nextInt(FORMAT_CHARACTERS.length()));
+      }
+      String input = new String(content);
+      String message = "Input: '" + input.replace("\n", "\\n").replace("\r", "\\r") + "'";
+      Properties properties = new Properties();
+      try {
+        properties.load(new StringReader(input));
+      } catch (IllegalArgumentException e) {
+        try {
+          PropertiesParser.parse(ByteBuffer.wrap(input.getBytes(StandardCharsets.US_ASCII)));
+          Assert.fail(message);
+        } catch (IllegalArgumentException expected) {
+          continue;
+        }
+      }
+      Assert.assertEquals(message, properties,
+        PropertiesParser.parse(ByteBuffer.wrap(input.getBytes(StandardCharsets.US_ASCII))));
+      Assert.assertEquals(message, properties,
+        IndexedProperties.of(ByteBuffer.wrap(input.getBytes(StandardCharsets.US_ASCII))));
+    }
+  }
+
+  @Test
+  public void testMalformedUnicodeEscape() {
+    try {
+      PropertiesParser.parse(ByteBuffer.wrap("key=\\u00g1".getBytes(StandardCharsets.UTF_8)));
+      Assert.fail();
+    } catch (IllegalArgumentException e) {
+      Assert.assertEquals(PropertiesParser.MALFORMED_UNICODE_ESCAPE_MSG, e.getMessage());
+    }
+  }
+
+  private Properties utf8Properties(final String content) throws IOException {
+    Properties properties = new Properties();
+    properties.load(new InputStreamReader(
+      new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+      StandardCharsets.UTF_8));
+    return properties;
+  }
+}
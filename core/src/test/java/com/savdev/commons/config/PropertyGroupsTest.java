@@ -0,0 +1,172 @@
+package com.savdev.commons.config;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PropertyGroupsTest {
+
+  private static final String PROPERTIES = String.join("\n",
+    "db.primary.url=jdbc:primary",
+    "db.primary.pool.size=10",
+    "db.shards.us.url=jdbc:us",
+    "db.shards.eu.url=jdbc:eu",
+    "db.shards.eu.pool.size=5",
+    "db.shards.eu-west.url=jdbc:eu-west",
+    "db.shards=not a group key",
+    "db.replicas.10.url=jdbc:replica10",
+    "db.replicas.2.url=jdbc:replica2");
+
+  @Test
+  public void testNestedConfig() {
+    for (DbConfig config : configs()) {
+      Assert.assertEquals("jdbc:primary", config.primary().url());
+      Assert.assertEquals(Optional.of(10), config.primary().pool().size());
+      Assert.assertSame(config.primary(), config.primary());
+    }
+  }
+
+  @Test
+  public void testMapOfNestedConfigs() {
+    for (DbConfig config : configs()) {
+      Map<String, Shard> shards = config.shards();
+      Assert.assertEquals(Arrays.asList("eu", "eu-west", "us"), Arrays.asList(shards.keySet().toArray()));
+      Assert.assertEquals("jdbc:eu", shards.get("eu").url());
+      Assert.assertEquals(Optional.of(5), shards.get("eu").pool().size());
+      Assert.assertEquals(Optional.empty(), shards.get("us").pool().size());
+    }
+  }
+
+  @Test
+  public void testListOfNestedConfigs() {
+    for (DbConfig config : configs()) {
+      List<Shard> replicas = config.replicas();
+      Assert.assertEquals(2, replicas.size());
+      Assert.assertEquals("jdbc:replica2", replicas.get(0).url());
+      Assert.assertEquals("jdbc:replica10", replicas.get(1).url());
+      Assert.assertTrue(config.notExisting().isEmpty());
+    }
+  }
+
+  @Test
+  public void testNumericNamesBeforeOtherNames() {
+    String properties = String.join("\n",
+      "db.shards.1a.url=jdbc:1a",
+      "db.shards.10.url=jdbc:10",
+      "db.shards.b.url=jdbc:b",
+      "db.shards.9.url=jdbc:9",
+      "db.shards.010.url=jdbc:010");
+    Map<String, Shard> shards = Configs.fileConfig(
+      new ByteArrayInputStream(properties.getBytes(StandardCharsets.ISO_8859_1))).proxy(ShardsConfig.class).shards();
+    Assert.assertEquals(Arrays.asList("9", "10", "010", "1a", "b"), Arrays.asList(shards.keySet().toArray()));
+  }
+
+  @Test
+  public void testEquality() {
+    Shard primary = Configs.fileConfig(inputStream()).proxy(DbConfig.class).primary();
+    Shard other = Configs.fileConfig(inputStream()).proxy(DbConfig.class).primary();
+    Assert.assertEquals(primary, other);
+    Assert.assertEquals(primary.hashCode(), other.hashCode());
+    Assert.assertNotEquals(primary, Configs.fileConfig(inputStream()).proxy(DbConfig.class).shards().get("us"));
+    Assert.assertTrue(primary.toString().contains("url=jdbc:primary"));
+  }
+
+  @Test
+  public void testWrongNestedConfig() {
+    try {
+      Configs.fileConfig(inputStream()).proxy(WrongShardsConfig.class);
+      Assert.fail();
+    } catch (IllegalStateException e) {
+      Assert.assertEquals(
+        String.format(FileConfig.WRONG_PROXY_CONFIG_FORMAT_MSG,
+          String.format(FileConfig.WRONG_PROPERTY_GROUP_FORMAT_MSG, "db.shards.eu-west", "shards",
+            String.format(FileConfig.WRONG_PROXY_CONFIG_FORMAT_MSG,
+              String.format(FileConfig.PROPERTY_DOES_NOT_EXIST_FORMAT_MSG, "pool.size")))),
+        e.getMessage());
+    }
+  }
+
+  @Test
+  public void testUnsupportedGroupType() {
+    try {
+      Configs.fileConfig(inputStream()).proxy(WrongGroupTypeConfig.class);
+      Assert.fail();
+    } catch (IllegalStateException e) {
+      Assert.assertEquals(
+        String.format(FileConfig.WRONG_PROXY_CONFIG_FORMAT_MSG,
+          String.format(FileConfig.UNSUPPORTED_GROUP_TYPE_FORMAT_MSG, List.class.getName(), "primary")),
+        e.getMessage());
+    }
+  }
+
+  private static List<DbConfig> configs() {
+    return Arrays.asList(
+      Configs.fileConfig(inputStream()).proxy(DbConfig.class),
+      Configs.immutableFileConfig(inputStream()).proxy(DbConfig.class));
+  }
+
+  private static InputStream inputStream() {
+    return new ByteArrayInputStream(PROPERTIES.getBytes(StandardCharsets.ISO_8859_1));
+  }
+
+  public interface DbConfig {
+
+    @PropertyGroup("db.primary")
+    Shard primary();
+
+    @PropertyGroup("db.shards")
+    Map<String, Shard> shards();
+
+    @PropertyGroup("db.replicas")
+    List<Shard> replicas();
+
+    @PropertyGroup("db.not.existing")
+    List<Shard> notExisting();
+  }
+
+  public interface ShardsConfig {
+
+    @PropertyGroup("db.shards")
+    Map<String, Shard> shards();
+  }
+
+  public interface Shard {
+
+    @PropertyKey("url")
+    String url();
+
+    @PropertyGroup("pool")
+    Pool pool();
+  }
+
+  public interface Pool {
+
+    @PropertyKey(value = "size", optionalClass = Integer.class)
+    Optional<Integer> size();
+  }
+
+  public interface WrongShardsConfig {
+
+    @PropertyGroup("db.shards")
+    Map<String, SizedShard> shards();
+  }
+
+  public interface SizedShard {
+
+    @PropertyKey("pool.size")
+    int poolSize();
+  }
+
+  public interface WrongGroupTypeConfig {
+
+    @PropertyGroup("db.primary")
+    List<String> primary();
+  }
+}
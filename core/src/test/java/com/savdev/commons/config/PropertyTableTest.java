@@ -0,0 +1,35 @@
+package com.savdev.commons.config;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PropertyTableTest {
+
+  @Test
+  public void testSameAsCopiedMap(){
+    for (int size : new int[]{0, 1, 2, 3, 17, 1000}) {
+      Map<String, String> properties = new HashMap<>();
+      for (int i = 0; i < size; i++) {
+        properties.put("key." + i, "value " + i);
+      }
+      PropertyTable table = PropertyTable.copyOf(properties);
+      Assert.assertEquals(properties, table);
+      Assert.assertEquals(properties.size(), table.size());
+      for (int i = 0; i < size; i++) {
+        Assert.assertEquals("value " + i, table.get(new String("key." + i)));
+      }
+      Assert.assertNull(table.get("key." + size));
+      Assert.assertNull(table.get(null));
+      Assert.assertFalse(table.containsKey("not.existing"));
+    }
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testImmutable(){
+    PropertyTable.copyOf(Collections.singletonMap("key", "value")).put("key", "other");
+  }
+}
@@ -0,0 +1,63 @@
+package com.savdev.commons.config;
+
+import java.time.Duration;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PropertyValuesTest {
+
+  @Test
+  public void testDuration(){
+    Assert.assertEquals(Duration.ofMillis(250), PropertyValues.duration("250"));
+    Assert.assertEquals(Duration.ofMillis(250), PropertyValues.duration("250ms"));
+    Assert.assertEquals(Duration.ofNanos(5_000), PropertyValues.duration("5us"));
+    Assert.assertEquals(Duration.ofMinutes(5), PropertyValues.duration(" 5 m "));
+    Assert.assertEquals(Duration.ofHours(-2), PropertyValues.duration("-2h"));
+    Assert.assertEquals(Duration.ofDays(1), PropertyValues.duration("P1D"));
+  }
+
+  @Test
+  public void testWrongDuration(){
+    try {
+      PropertyValues.duration("5 weeks");
+      Assert.fail();
+    } catch (IllegalArgumentException e){
+      Assert.assertEquals(String.format(PropertyValues.WRONG_DURATION_FORMAT_MSG, "5 weeks"), e.getMessage());
+    }
+  }
+
+  @Test
+  public void testByteSize(){
+    Assert.assertEquals(100, PropertyValues.byteSize("100"));
+    Assert.assertEquals(100, PropertyValues.byteSize("100B"));
+    Assert.assertEquals(2048, PropertyValues.byteSize("2kb"));
+    Assert.assertEquals(64L << 20, PropertyValues.byteSize("64 MB"));
+    Assert.assertEquals(3L << 30, PropertyValues.byteSize("3GB"));
+    Assert.assertEquals(1L << 40, PropertyValues.byteSize("1TB"));
+  }
+
+  @Test
+  public void testWrongByteSize(){
+    for (String value : new String[]{"64XB", "8388608TB"}) {
+      try {
+        PropertyValues.byteSize(value);
+        Assert.fail(value);
+      } catch (IllegalArgumentException e){
+        Assert.assertEquals(String.format(PropertyValues.WRONG_BYTE_SIZE_FORMAT_MSG, value), e.getMessage());
+      }
+    }
+  }
+
+  @Test
+  public void testBoolean(){
+    Assert.assertTrue(PropertyValues.parseBoolean("True"));
+    Assert.assertFalse(PropertyValues.parseBoolean("false"));
+    try {
+      PropertyValues.parseBoolean("yes");
+      Assert.fail();
+    } catch (IllegalArgumentException e){
+      Assert.assertEquals(String.format(PropertyValues.WRONG_BOOLEAN_FORMAT_MSG, "yes"), e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,293 @@
+package com.savdev.commons.config;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ReloadableFileConfigTest {
+
+  private static final long WATCH_TIMEOUT_MILLIS = 30_000;
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private File file;
+
+  private ReloadableFileConfig reloadableFileConfig;
+
+  @Before
+  public void setUp() throws IOException {
+    file = folder.newFile("reloadable.properties");
+    write(TestPropertiesConfig.NOT_EXISTING_PROP_KEY, "initial.value");
+    reloadableFileConfig = new ReloadableFileConfig(file.toPath());
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    reloadableFileConfig.close();
+  }
+
+  @Test
+  public void testReload() throws IOException {
+    NotExistingStringConfig config = reloadableFileConfig.proxy(NotExistingStringConfig.class);
+    Assert.assertEquals("initial.value", config.notExistingProperty());
+
+    write(TestPropertiesConfig.NOT_EXISTING_PROP_KEY, "changed.value");
+    Assert.assertTrue(reloadableFileConfig.reload());
+    Assert.assertEquals("changed.value", config.notExistingProperty());
+  }
+
+  @Test
+  public void testFailedReloadKeepsLastSnapshot() throws IOException {
+    NotExistingStringConfig config = reloadableFileConfig.proxy(NotExistingStringConfig.class);
+
+    write("some.other.key", "changed.value");
+    Assert.assertFalse(reloadableFileConfig.reload());
+    Assert.assertEquals("initial.value", config.notExistingProperty());
+  }
+
+  @Test
+  public void testReloadOnFileChange() throws Exception {
+    NotExistingStringConfig config = reloadableFileConfig.proxy(NotExistingStringConfig.class);
+
+    write(TestPropertiesConfig.NOT_EXISTING_PROP_KEY, "changed.value");
+    long deadline = System.currentTimeMillis() + WATCH_TIMEOUT_MILLIS;
+    while (!"changed.value".equals(config.notExistingProperty())
+      && System.currentTimeMillis() < deadline) {
+      Thread.sleep(50);
+    }
+    Assert.assertEquals("changed.value", config.notExistingProperty());
+  }
+
+  @Test
+  public void testReloadWaitsForCompleteWrite() throws Exception {
+    reloadableFileConfig.proxy(NotExistingStringConfig.class);
+    BlockingQueue<ConfigChange> changes = new LinkedBlockingQueue<>();
+    reloadableFileConfig.addListener(NotExistingStringConfig.class, changes::add);
+
+    try (OutputStream outputStream = Files.newOutputStream(file.toPath())) {
+      outputStream.write((TestPropertiesConfig.NOT_EXISTING_PROP_KEY + "=partial")
+        .getBytes(StandardCharsets.ISO_8859_1));
+      outputStream.flush();
+      Thread.sleep(ReloadableFileConfig.QUIET_PERIOD_MILLIS / 4);
+      outputStream.write(".value".getBytes(StandardCharsets.ISO_8859_1));
+    }
+    ConfigChange change = changes.poll(WATCH_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    Assert.assertNotNull(change);
+    Assert.assertEquals("partial.value", change.getChanges().get(0).getNewValue());
+    Assert.assertNull(changes.poll(2 * ReloadableFileConfig.QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  public void testListeners() throws Exception {
+    NotExistingStringConfig config = reloadableFileConfig.proxy(NotExistingStringConfig.class);
+    BlockingQueue<ConfigChange> interfaceChanges = new LinkedBlockingQueue<>();
+    BlockingQueue<ConfigChange> keyChanges = new LinkedBlockingQueue<>();
+    BlockingQueue<ConfigChange> otherKeyChanges = new LinkedBlockingQueue<>();
+    CountDownLatch slowListener = new CountDownLatch(1);
+    reloadableFileConfig.addListener(NotExistingStringConfig.class, change -> {
+      try {
+        slowListener.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    reloadableFileConfig.addListener(NotExistingStringConfig.class, interfaceChanges::add);
+    reloadableFileConfig.addListener(TestPropertiesConfig.NOT_EXISTING_PROP_KEY, keyChanges::add);
+    reloadableFileConfig.addListener(TestPropertiesConfig.STRING_PROP_KEY1, otherKeyChanges::add);
+
+    write(TestPropertiesConfig.NOT_EXISTING_PROP_KEY, "changed.value");
+    Assert.assertTrue(reloadableFileConfig.reload());
+
+    for (BlockingQueue<ConfigChange> changes : Arrays.asList(interfaceChanges, keyChanges)) {
+      ConfigChange change = changes.poll(WATCH_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+      Assert.assertNotNull(change);
+      Assert.assertEquals(NotExistingStringConfig.class, change.getConfigInterface());
+      Assert.assertEquals(1, change.getChanges().size());
+      PropertyChange propertyChange = change.getChanges().get(0);
+      Assert.assertEquals(TestPropertiesConfig.NOT_EXISTING_PROP_KEY, propertyChange.getKey());
+      Assert.assertEquals("initial.value", propertyChange.getOldValue());
+      Assert.assertEquals("changed.value", propertyChange.getNewValue());
+    }
+    slowListener.countDown();
+    Assert.assertTrue(otherKeyChanges.isEmpty());
+    Assert.assertEquals("changed.value", config.notExistingProperty());
+  }
+
+  @Test
+  public void testListenerGetsChangesInReloadOrder() throws Exception {
+    reloadableFileConfig.proxy(NotExistingStringConfig.class);
+    BlockingQueue<Object> values = new LinkedBlockingQueue<>();
+    reloadableFileConfig.addListener(NotExistingStringConfig.class, change -> {
+      try {
+        Thread.sleep(10);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      values.add(change.getChanges().get(0).getNewValue());
+    });
+
+    for (int i = 0; i < 10; i++) {
+      write(TestPropertiesConfig.NOT_EXISTING_PROP_KEY, "value" + i);
+      Assert.assertTrue(reloadableFileConfig.reload());
+    }
+    for (int i = 0; i < 10; i++) {
+      Assert.assertEquals("value" + i, values.poll(WATCH_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+    }
+  }
+
+  @Test
+  public void testSlowListenersDoNotBlockOthers() throws Exception {
+    reloadableFileConfig.proxy(NotExistingStringConfig.class);
+    CountDownLatch slowListeners = new CountDownLatch(1);
+    for (int i = 0; i < ReloadableFileConfig.LISTENER_THREADS - 1; i++) {
+      reloadableFileConfig.addListener(NotExistingStringConfig.class, change -> {
+        try {
+          slowListeners.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+    }
+    BlockingQueue<ConfigChange> changes = new LinkedBlockingQueue<>();
+    reloadableFileConfig.addListener(NotExistingStringConfig.class, changes::add);
+
+    write(TestPropertiesConfig.NOT_EXISTING_PROP_KEY, "changed.value");
+    Assert.assertTrue(reloadableFileConfig.reload());
+    Assert.assertNotNull(changes.poll(WATCH_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+    slowListeners.countDown();
+  }
+
+  @Test
+  public void testSlowListenerGetsLatestChanges() throws Exception {
+    reloadableFileConfig.proxy(NotExistingStringConfig.class);
+    CountDownLatch slowListener = new CountDownLatch(1);
+    BlockingQueue<Object> values = new LinkedBlockingQueue<>();
+    reloadableFileConfig.addListener(NotExistingStringConfig.class, change -> {
+      try {
+        slowListener.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      values.add(change.getChanges().get(0).getNewValue());
+    });
+
+    int reloads = ReloadableFileConfig.LISTENER_QUEUE_CAPACITY * 2;
+    for (int i = 0; i < reloads; i++) {
+      write(TestPropertiesConfig.NOT_EXISTING_PROP_KEY, "value" + i);
+      Assert.assertTrue(reloadableFileConfig.reload());
+    }
+    slowListener.countDown();
+
+    Object value;
+    int delivered = 0;
+    do {
+      value = values.poll(WATCH_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+      delivered++;
+    } while (value != null && !("value" + (reloads - 1)).equals(value));
+    Assert.assertEquals("value" + (reloads - 1), value);
+    //the change, that is delivered, when the listener is blocked, and the last pending changes
+    Assert.assertTrue(delivered <= ReloadableFileConfig.LISTENER_QUEUE_CAPACITY + 1);
+  }
+
+  @Test
+  public void testAddedAgainListenerGetsChangesInReloadOrder() throws Exception {
+    reloadableFileConfig.proxy(NotExistingStringConfig.class);
+    AtomicInteger running = new AtomicInteger();
+    AtomicBoolean concurrent = new AtomicBoolean();
+    BlockingQueue<Object> values = new LinkedBlockingQueue<>();
+    ConfigListener listener = change -> {
+      if (running.incrementAndGet() > 1) {
+        concurrent.set(true);
+      }
+      try {
+        Thread.sleep(10);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      values.add(change.getChanges().get(0).getNewValue());
+      running.decrementAndGet();
+    };
+    reloadableFileConfig.addListener(NotExistingStringConfig.class, listener);
+
+    for (int i = 0; i < 10; i++) {
+      write(TestPropertiesConfig.NOT_EXISTING_PROP_KEY, "value" + i);
+      Assert.assertTrue(reloadableFileConfig.reload());
+    }
+    reloadableFileConfig.removeListener(listener);
+    reloadableFileConfig.addListener(NotExistingStringConfig.class, listener);
+    for (int i = 10; i < 20; i++) {
+      write(TestPropertiesConfig.NOT_EXISTING_PROP_KEY, "value" + i);
+      Assert.assertTrue(reloadableFileConfig.reload());
+    }
+
+    int previous = -1;
+    Object value;
+    do {
+      value = values.poll(WATCH_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+      Assert.assertNotNull(value);
+      int index = Integer.parseInt(value.toString().substring("value".length()));
+      Assert.assertTrue(index > previous);
+      previous = index;
+    } while (previous < 19);
+    Assert.assertFalse(concurrent.get());
+  }
+
+  @Test
+  public void testListenerGetsStreamValues() throws Exception {
+    reloadableFileConfig.proxy(StreamConfig.class);
+    BlockingQueue<ConfigChange> changes = new LinkedBlockingQueue<>();
+    reloadableFileConfig.addListener(StreamConfig.class, changes::add);
+
+    write(TestPropertiesConfig.NOT_EXISTING_PROP_KEY, "first|second");
+    Assert.assertTrue(reloadableFileConfig.reload());
+
+    ConfigChange change = changes.poll(WATCH_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    Assert.assertNotNull(change);
+    PropertyChange propertyChange = change.getChanges().get(0);
+    Assert.assertEquals(Collections.singletonList("initial.value"),
+      ((Stream<?>) propertyChange.getOldValue()).collect(Collectors.toList()));
+    Assert.assertEquals(Arrays.asList("first", "second"),
+      ((Stream<?>) propertyChange.getNewValue()).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void testNoChangeNoEvent() throws Exception {
+    reloadableFileConfig.proxy(NotExistingStringConfig.class);
+    BlockingQueue<ConfigChange> changes = new LinkedBlockingQueue<>();
+    reloadableFileConfig.addListener(NotExistingStringConfig.class, changes::add);
+
+    Assert.assertTrue(reloadableFileConfig.reload());
+    Assert.assertNull(changes.poll(100, TimeUnit.MILLISECONDS));
+  }
+
+  public interface StreamConfig {
+
+    @PropertyKey(TestPropertiesConfig.NOT_EXISTING_PROP_KEY)
+    Stream<String> values();
+  }
+
+  private void write(final String key, final String value) throws IOException {
+    Files.write(file.toPath(),
+      (key + "=" + value).getBytes(StandardCharsets.ISO_8859_1));
+  }
+}
@@ -0,0 +1,241 @@
+package com.savdev.commons.config;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class RemoteSourceTest {
+
+  private static final long POLL_TIMEOUT_MILLIS = 30_000;
+
+  private static final Duration NO_POLLING = Duration.ofHours(1);
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private HttpServer server;
+
+  private URI uri;
+
+  private Path cacheFile;
+
+  private volatile String payload;
+
+  private volatile int version;
+
+  private final List<String> requestEtags = new CopyOnWriteArrayList<>();
+
+  @Before
+  public void setUp() throws IOException {
+    payload = TestPropertiesConfig.NOT_EXISTING_PROP_KEY + "=initial.value\n";
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/config", this::respond);
+    server.start();
+    uri = URI.create("http://localhost:" + server.getAddress().getPort() + "/config");
+    cacheFile = folder.getRoot().toPath().resolve("cache").resolve("remote.properties");
+  }
+
+  @After
+  public void tearDown() {
+    server.stop(0);
+  }
+
+  @Test
+  public void testConditionalPolls() throws IOException {
+    RemoteSource source = PropertySources.remote(uri, cacheFile, NO_POLLING);
+    try {
+      Assert.assertEquals("initial.value", source.properties().get(TestPropertiesConfig.NOT_EXISTING_PROP_KEY));
+      Assert.assertFalse(source.poll());
+      Assert.assertEquals(etag(), requestEtags.get(requestEtags.size() - 1));
+
+      change("changed.value");
+      Assert.assertTrue(source.poll());
+      Assert.assertEquals("changed.value", source.properties().get(TestPropertiesConfig.NOT_EXISTING_PROP_KEY));
+      Assert.assertEquals(
+        RemoteSource.ETAG_COMMENT + etag() + "\n" + payload,
+        new String(Files.readAllBytes(cacheFile), StandardCharsets.UTF_8));
+    } finally {
+      source.close();
+    }
+  }
+
+  @Test
+  public void testCacheIsUsedIfEndpointIsNotAvailable() throws IOException {
+    PropertySources.remote(uri, cacheFile, NO_POLLING).close();
+    server.stop(0);
+
+    RemoteSource source = PropertySources.remote(uri, cacheFile, NO_POLLING);
+    try {
+      Assert.assertEquals("initial.value", source.properties().get(TestPropertiesConfig.NOT_EXISTING_PROP_KEY));
+    } finally {
+      source.close();
+    }
+  }
+
+  @Test
+  public void testCachedEtagIsSentOnRestart() throws IOException {
+    PropertySources.remote(uri, cacheFile, NO_POLLING).close();
+    requestEtags.clear();
+
+    RemoteSource source = PropertySources.remote(uri, cacheFile, NO_POLLING);
+    try {
+      Assert.assertEquals(etag(), requestEtags.get(0));
+      Assert.assertEquals("initial.value", source.properties().get(TestPropertiesConfig.NOT_EXISTING_PROP_KEY));
+    } finally {
+      source.close();
+    }
+  }
+
+  @Test
+  public void testNotAvailableWithoutCache() {
+    server.stop(0);
+    try {
+      PropertySources.remote(uri, cacheFile, NO_POLLING);
+      Assert.fail();
+    } catch (IllegalStateException e) {
+      Assert.assertEquals(
+        String.format(RemoteSource.NOT_AVAILABLE_FORMAT_MSG, uri, cacheFile.toAbsolutePath()),
+        e.getMessage());
+    }
+  }
+
+  @Test
+  public void testJitteredDelays() {
+    RemoteSource source = PropertySources.remote(uri, cacheFile, Duration.ofSeconds(10));
+    try {
+      long min = Long.MAX_VALUE;
+      long max = Long.MIN_VALUE;
+      for (int i = 0; i < 1000; i++) {
+        long delay = source.nextDelay();
+        min = Math.min(min, delay);
+        max = Math.max(max, delay);
+      }
+      Assert.assertTrue(min >= 8_000);
+      Assert.assertTrue(max <= 12_000);
+      Assert.assertTrue(max - min > 1_000);
+    } finally {
+      source.close();
+    }
+  }
+
+  @Test
+  public void testRemoteConfigReloadsOnPoll() throws Exception {
+    try (ReloadableFileConfig reloadableConfig = Configs.remoteConfig(uri, cacheFile, Duration.ofMillis(100))) {
+      NotExistingStringConfig config = reloadableConfig.proxy(NotExistingStringConfig.class);
+      Assert.assertEquals("initial.value", config.notExistingProperty());
+
+      change("changed.value");
+      long deadline = System.currentTimeMillis() + POLL_TIMEOUT_MILLIS;
+      while (!"changed.value".equals(config.notExistingProperty())
+        && System.currentTimeMillis() < deadline) {
+        Thread.sleep(50);
+      }
+      Assert.assertEquals("changed.value", config.notExistingProperty());
+    }
+  }
+
+  @Test
+  public void testInvalidContentIsNotCached() throws IOException {
+    String cached;
+    try (ReloadableFileConfig reloadableConfig = Configs.remoteConfig(uri, cacheFile, NO_POLLING)) {
+      NotExistingStringConfig config = reloadableConfig.proxy(NotExistingStringConfig.class);
+      cached = new String(Files.readAllBytes(cacheFile), StandardCharsets.UTF_8);
+
+      payload = "some.other.key=value\n";
+      version++;
+      RemoteSource source = (RemoteSource) reloadableConfig.source;
+      Assert.assertTrue(source.poll());
+      Assert.assertEquals("initial.value", config.notExistingProperty());
+      Assert.assertEquals(cached, new String(Files.readAllBytes(cacheFile), StandardCharsets.UTF_8));
+      Assert.assertFalse(source.poll());
+    }
+    server.stop(0);
+
+    try (ReloadableFileConfig restartedConfig = Configs.remoteConfig(uri, cacheFile, NO_POLLING)) {
+      Assert.assertEquals("initial.value",
+        restartedConfig.proxy(NotExistingStringConfig.class).notExistingProperty());
+    }
+  }
+
+  @Test
+  public void testInvalidContentOnStartupFallsBackToCache() throws IOException {
+    String cached = cacheInitialContent();
+    payload = "some.other.key=value\n";
+    version++;
+
+    try (ReloadableFileConfig reloadableConfig = Configs.remoteConfig(uri, cacheFile, NO_POLLING)) {
+      Assert.assertEquals("initial.value",
+        reloadableConfig.proxy(NotExistingStringConfig.class).notExistingProperty());
+      Assert.assertEquals(cached, new String(Files.readAllBytes(cacheFile), StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  public void testContentIsNotAcceptedWithoutConfigs() throws IOException {
+    String cached = cacheInitialContent();
+
+    try (ReloadableFileConfig reloadableConfig = Configs.remoteConfig(uri, cacheFile, NO_POLLING)) {
+      payload = "some.other.key=value\n";
+      version++;
+      Assert.assertTrue(((RemoteSource) reloadableConfig.source).poll());
+      Assert.assertEquals(cached, new String(Files.readAllBytes(cacheFile), StandardCharsets.UTF_8));
+
+      Assert.assertEquals("initial.value",
+        reloadableConfig.proxy(NotExistingStringConfig.class).notExistingProperty());
+      Assert.assertEquals(cached, new String(Files.readAllBytes(cacheFile), StandardCharsets.UTF_8));
+    }
+  }
+
+  /**
+   * @return the cache file, written, when the first proxy accepts the initial content
+   */
+  private String cacheInitialContent() throws IOException {
+    try (ReloadableFileConfig reloadableConfig = Configs.remoteConfig(uri, cacheFile, NO_POLLING)) {
+      reloadableConfig.proxy(NotExistingStringConfig.class);
+    }
+    return new String(Files.readAllBytes(cacheFile), StandardCharsets.UTF_8);
+  }
+
+  private void change(final String value) {
+    payload = TestPropertiesConfig.NOT_EXISTING_PROP_KEY + "=" + value + "\n";
+    version++;
+  }
+
+  private String etag() {
+    return "\"v" + version + "\"";
+  }
+
+  private void respond(final HttpExchange exchange) throws IOException {
+    String requestEtag = exchange.getRequestHeaders().getFirst("If-None-Match");
+    if (requestEtag != null) {
+      requestEtags.add(requestEtag);
+    }
+    if (etag().equals(requestEtag)) {
+      exchange.sendResponseHeaders(304, -1);
+      exchange.close();
+      return;
+    }
+    byte[] body = payload.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("ETag", etag());
+    exchange.sendResponseHeaders(200, body.length);
+    try (OutputStream outputStream = exchange.getResponseBody()) {
+      outputStream.write(body);
+    }
+  }
+}
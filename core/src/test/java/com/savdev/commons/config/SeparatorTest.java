@@ -0,0 +1,67 @@
+package com.savdev.commons.config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SeparatorTest {
+
+  private static final List<String> SEPARATORS = Arrays.asList(
+    PropertyKey.ITEMS_SEPARATOR,
+    PropertyKey.KEY_VALUE_SEPARATOR,
+    PropertyKey.MAP_LIST_ITEMS_SEPARATOR,
+    ",",
+    "\\s*,\\s*");
+
+  private static final List<String> VALUES = Arrays.asList(
+    "", "a", "a|b|c", "|a||b|", "||", "a->b", "->b", "a->", "a->b->c",
+    "a&b&&", "&", "a, b ,c", " , ", "a,,b,");
+
+  @Test
+  public void testSameAsStringSplit(){
+    for (String separator : SEPARATORS) {
+      for (String value : VALUES) {
+        Assert.assertEquals(
+          separator + " in '" + value + "'",
+          Arrays.asList(value.split(separator)),
+          split(Separator.of(separator), "[" + value + "]", 1, value.length() + 1));
+      }
+    }
+  }
+
+  @Test
+  public void testLazyTokensSameAsStringSplit(){
+    for (String separator : SEPARATORS) {
+      for (String value : VALUES) {
+        Assert.assertEquals(
+          separator + " in '" + value + "'",
+          Arrays.asList(value.split(separator)),
+          StreamSupport.stream(Separator.of(separator).spliterator(value), false).collect(Collectors.toList()));
+      }
+    }
+  }
+
+  @Test
+  public void testLazyTokensAreFoundOnRequest(){
+    Spliterator<String> tokens = Separator.of(PropertyKey.ITEMS_SEPARATOR).spliterator("a||b|");
+    List<String> found = new ArrayList<>();
+    Assert.assertTrue(tokens.tryAdvance(found::add));
+    Assert.assertEquals(Collections.singletonList("a"), found);
+    tokens.forEachRemaining(found::add);
+    Assert.assertEquals(Arrays.asList("a", "", "b"), found);
+    Assert.assertFalse(tokens.tryAdvance(found::add));
+  }
+
+  private List<String> split(final Separator separator, final String value, final int from, final int to) {
+    List<String> tokens = new ArrayList<>();
+    separator.split(value, from, to, (source, tokenFrom, tokenTo) -> tokens.add(source.substring(tokenFrom, tokenTo)));
+    return tokens;
+  }
+}
@@ -0,0 +1,113 @@
+package com.savdev.commons.config;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Runs all the config tests against snapshots, compiled from the test files.
+ */
+public class SnapshotConfigFactoryTest extends ImmutableConfigFactoryTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Override
+  protected ConfigFactory configFactory(InputStream inputStream) {
+    try {
+      Path file = folder.newFile().toPath();
+      Files.copy(inputStream, file, StandardCopyOption.REPLACE_EXISTING);
+      Path snapshotFile = snapshotFile(file);
+      ConfigSnapshot.compile(file, snapshotFile, TestPropertiesConfig.class, TypedValuesConfig.class);
+      Assert.assertTrue(PropertySources.snapshot(file, snapshotFile).properties() instanceof SnapshotProperties);
+      return new FileConfig(PropertySources.snapshot(file, snapshotFile), true);
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Test
+  public void testStaleSnapshot() throws IOException {
+    Path file = file(TestPropertiesConfig.NOT_EXISTING_PROP_KEY + "=compiled.value");
+    Path snapshotFile = snapshotFile(file);
+    ConfigSnapshot.compile(file, snapshotFile, NotExistingStringConfig.class);
+
+    write(file, TestPropertiesConfig.NOT_EXISTING_PROP_KEY + "=changed.value");
+    Assert.assertEquals("changed.value",
+      new FileConfig(PropertySources.snapshot(file, snapshotFile), true)
+        .proxy(NotExistingStringConfig.class)
+        .notExistingProperty());
+  }
+
+  @Test
+  public void testNotExistingSnapshot() throws IOException {
+    Path file = file(TestPropertiesConfig.NOT_EXISTING_PROP_KEY + "=text.value");
+    Assert.assertEquals("text.value",
+      new FileConfig(PropertySources.snapshot(file, snapshotFile(file)), true)
+        .proxy(NotExistingStringConfig.class)
+        .notExistingProperty());
+  }
+
+  @Test
+  public void testSnapshotOfOtherVersion() throws IOException {
+    Path file = file(TestPropertiesConfig.NOT_EXISTING_PROP_KEY + "=text.value");
+    Path snapshotFile = snapshotFile(file);
+    ConfigSnapshot.compile(file, snapshotFile, NotExistingStringConfig.class);
+    byte[] snapshot = Files.readAllBytes(snapshotFile);
+    snapshot[7] = (byte) (ConfigSnapshot.VERSION + 1);
+    Files.write(snapshotFile, snapshot);
+
+    Assert.assertNull(SnapshotProperties.map(snapshotFile, file));
+    Assert.assertEquals("text.value",
+      new FileConfig(PropertySources.snapshot(file, snapshotFile), true)
+        .proxy(NotExistingStringConfig.class)
+        .notExistingProperty());
+  }
+
+  @Test
+  public void testSnapshotConfig() throws IOException {
+    String folderProperty = "snapshot.test.folder";
+    System.setProperty(folderProperty, folder.getRoot().getAbsolutePath());
+    try {
+      Path file = file(TestPropertiesConfig.NOT_EXISTING_PROP_KEY + "=compiled.value");
+      ConfigSnapshot.main(new String[]{
+        file.toString(), snapshotFile(file).toString(), NotExistingStringConfig.class.getName()});
+      Assert.assertTrue(Files.exists(snapshotFile(file)));
+      Assert.assertEquals("compiled.value",
+        Configs.snapshotConfig(folderProperty, file.getFileName().toString())
+          .proxy(NotExistingStringConfig.class)
+          .notExistingProperty());
+    } catch (ClassNotFoundException e) {
+      throw new IllegalStateException(e);
+    } finally {
+      System.clearProperty(folderProperty);
+    }
+  }
+
+  private Path file(final String content) throws IOException {
+    Path file = folder.newFile().toPath();
+    write(file, content);
+    return file;
+  }
+
+  private static Path snapshotFile(final Path file) {
+    return file.resolveSibling(file.getFileName() + ConfigSnapshot.SUFFIX);
+  }
+
+  private static void write(final Path file, final String content) throws IOException {
+    FileTime lastModified = Files.getLastModifiedTime(file);
+    Files.write(file, content.getBytes(StandardCharsets.ISO_8859_1));
+    //the same file version, if the file is changed within the file system time resolution
+    Files.setLastModifiedTime(file, FileTime.fromMillis(lastModified.toMillis() + 1000));
+  }
+}
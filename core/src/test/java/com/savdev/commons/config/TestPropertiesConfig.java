@@ -1,8 +1,10 @@
 package com.savdev.commons.config;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TestPropertiesConfig {
 
@@ -65,4 +67,22 @@ public interface TestPropertiesConfig {
 
   @PropertyKey(MAP_OF_MAPS_OF_LISTS_KEY)
   Map<String, Map<String, List<String>>> defaultMapOfMapsOfLists();
+
+  @PropertyKey(MAP_LIST_ITEMS_KEY)
+  IndexedMap<List<String>> indexedMapOfLists();
+
+  @PropertyKey(MAP_OF_MAPS_KEY)
+  IndexedMap<Map<String, String>> indexedMapOfMaps();
+
+  @PropertyKey(LIST_ITEMS_KEY)
+  Stream<String> listStream();
+
+  @PropertyKey(value = LIST_ITEMS_KEY_CUSTOM, itemsSeparator = ",")
+  Iterator<String> listIterator();
+
+  @PropertyKey(MAP_ITEMS_KEY)
+  Stream<Map.Entry<String, String>> mapEntries();
+
+  @PropertyKey(NOT_EXISTING_PROP_KEY)
+  Stream<String> emptyStream();
 }
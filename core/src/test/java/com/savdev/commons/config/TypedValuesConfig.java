@@ -0,0 +1,52 @@
+package com.savdev.commons.config;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static com.savdev.commons.config.TestPropertiesConfig.NOT_EXISTING_PROP_KEY;
+
+public interface TypedValuesConfig {
+
+  String LONG_PROP_KEY = "test.key.long";
+  String DOUBLE_PROP_KEY = "test.key.double";
+  String BOOLEAN_PROP_KEY = "test.key.boolean";
+  String DURATION_PROP_KEY = "test.key.duration";
+  String ISO_DURATION_PROP_KEY = "test.key.duration.iso";
+  String BYTE_SIZE_PROP_KEY = "test.key.byte.size";
+
+  @PropertyKey(LONG_PROP_KEY)
+  long longProperty();
+
+  @PropertyKey(LONG_PROP_KEY)
+  Long longObjectProperty();
+
+  @PropertyKey(DOUBLE_PROP_KEY)
+  double doubleProperty();
+
+  @PropertyKey(DOUBLE_PROP_KEY)
+  Double doubleObjectProperty();
+
+  @PropertyKey(BOOLEAN_PROP_KEY)
+  boolean booleanProperty();
+
+  @PropertyKey(BOOLEAN_PROP_KEY)
+  Boolean booleanObjectProperty();
+
+  @PropertyKey(DURATION_PROP_KEY)
+  Duration durationProperty();
+
+  @PropertyKey(ISO_DURATION_PROP_KEY)
+  Duration isoDurationProperty();
+
+  @PropertyKey(value = BYTE_SIZE_PROP_KEY, byteSize = true)
+  long byteSizeProperty();
+
+  @PropertyKey(value = BYTE_SIZE_PROP_KEY, byteSize = true, optionalClass = Long.class)
+  Optional<Long> byteSizeViaOptional();
+
+  @PropertyKey(value = DURATION_PROP_KEY, optionalClass = Duration.class)
+  Optional<Duration> durationViaOptional();
+
+  @PropertyKey(value = NOT_EXISTING_PROP_KEY, optionalClass = Boolean.class)
+  Optional<Boolean> notExistingBooleanViaOptional();
+}
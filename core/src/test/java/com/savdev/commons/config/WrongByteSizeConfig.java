@@ -0,0 +1,9 @@
+package com.savdev.commons.config;
+
+import static com.savdev.commons.config.TypedValuesConfig.BYTE_SIZE_PROP_KEY;
+
+public interface WrongByteSizeConfig {
+
+  @PropertyKey(value = BYTE_SIZE_PROP_KEY, byteSize = true)
+  int byteSizeAsInt();
+}
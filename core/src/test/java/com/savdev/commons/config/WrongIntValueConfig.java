@@ -0,0 +1,9 @@
+package com.savdev.commons.config;
+
+import static com.savdev.commons.config.TestPropertiesConfig.STRING_PROP_KEY1;
+
+public interface WrongIntValueConfig {
+
+  @PropertyKey(STRING_PROP_KEY1)
+  int wrongIntValue();
+}
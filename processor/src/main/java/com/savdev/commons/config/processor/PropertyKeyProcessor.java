@@ -0,0 +1,513 @@
+package com.savdev.commons.config.processor;
+
+import com.savdev.commons.config.ConfigLoader;
+import com.savdev.commons.config.FileConfig;
+import com.savdev.commons.config.IndexedMap;
+import com.savdev.commons.config.PropertyGroup;
+import com.savdev.commons.config.PropertyKey;
+import com.savdev.commons.config.PropertyValues;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Generates implementations of config interfaces with {@link PropertyKey} methods,
+ * so no reflection is used to create config objects at runtime.
+ *
+ * For each interface {@code Config} a {@code PropertyKey_Config} class is generated.
+ * For each package a {@code PropertyKey_ConfigLoader} is generated and registered
+ * as a {@link ConfigLoader} service, {@link com.savdev.commons.config.Configs} factories use it.
+ *
+ * Wrong method declarations and unsupported return types are reported as compiler errors,
+ * with the same messages as {@link FileConfig} reports them at runtime.
+ * Values, that could not be converted, are reported together, when a config object is created.
+ */
+@SupportedAnnotationTypes(PropertyKeyProcessor.PROPERTY_KEY_ANNOTATION)
+public class PropertyKeyProcessor extends AbstractProcessor {
+
+  public static final String PROPERTY_KEY_ANNOTATION = "com.savdev.commons.config.PropertyKey";
+
+  public static final String IMPLEMENTATION_PREFIX = "PropertyKey_";
+
+  public static final String LOADER_NAME = IMPLEMENTATION_PREFIX + "ConfigLoader";
+
+  public static final String NOT_INTERFACE_FORMAT_MSG =
+    "Wrong method declaration. " + PropertyKey.class.getName()
+      + " annotation is supported only in interfaces. Method name: %s";
+
+  private static final String PROPERTY_GROUP_ANNOTATION = PropertyGroup.class.getName();
+
+  private static final String SERVICE_FILE = "META-INF/services/" + ConfigLoader.class.getName();
+
+  private static final String VALUES = PropertyValues.class.getName();
+
+  private static final String STRING = String.class.getName();
+  private static final String INTEGER = Integer.class.getName();
+  private static final String OPTIONAL = "java.util.Optional";
+  private static final String LIST = "java.util.List";
+  private static final String MAP = "java.util.Map";
+  private static final String INDEXED_MAP = IndexedMap.class.getName();
+  private static final String STREAM = "java.util.stream.Stream";
+  private static final String ITERATOR = "java.util.Iterator";
+  private static final String LONG = Long.class.getName();
+  private static final String DOUBLE = Double.class.getName();
+  private static final String BOOLEAN = Boolean.class.getName();
+  private static final String DURATION = "java.time.Duration";
+  private static final String MAP_OF_STRINGS = MAP + "<" + STRING + "," + STRING + ">";
+  private static final String MAP_OF_LISTS = MAP + "<" + STRING + "," + LIST + "<" + STRING + ">>";
+  private static final String ENTRY_OF_STRINGS = MAP + ".Entry<" + STRING + "," + STRING + ">";
+
+  /**
+   * Conversions of a property value, {@code %s}, to primitive return types.
+   */
+  private static final Map<TypeKind, String> PRIMITIVE_CONVERSIONS = new EnumMap<>(TypeKind.class);
+
+  /**
+   * Methods of {@link PropertyValues.Conversions}, that record errors of conversions to primitive return types.
+   */
+  private static final Map<TypeKind, String> PRIMITIVE_VALUES = new EnumMap<>(TypeKind.class);
+
+  /**
+   * Conversions of a property value, {@code %s}, to single value return types.
+   */
+  private static final Map<String, String> SCALAR_CONVERSIONS = new HashMap<>();
+
+  /**
+   * Parsers of a present value of {@code Optional} return types by the optional class.
+   */
+  private static final Map<String, String> SCALAR_PARSERS = new HashMap<>();
+
+  static {
+    PRIMITIVE_CONVERSIONS.put(TypeKind.INT, "java.lang.Integer.parseInt(%s)");
+    PRIMITIVE_CONVERSIONS.put(TypeKind.LONG, "java.lang.Long.parseLong(%s)");
+    PRIMITIVE_CONVERSIONS.put(TypeKind.DOUBLE, "java.lang.Double.parseDouble(%s)");
+    PRIMITIVE_CONVERSIONS.put(TypeKind.BOOLEAN, VALUES + ".parseBoolean(%s)");
+
+    PRIMITIVE_VALUES.put(TypeKind.INT, "intValue");
+    PRIMITIVE_VALUES.put(TypeKind.LONG, "longValue");
+    PRIMITIVE_VALUES.put(TypeKind.DOUBLE, "doubleValue");
+    PRIMITIVE_VALUES.put(TypeKind.BOOLEAN, "booleanValue");
+
+    SCALAR_CONVERSIONS.put(STRING, "%s");
+    SCALAR_CONVERSIONS.put(INTEGER, "java.lang.Integer.valueOf(%s)");
+    SCALAR_CONVERSIONS.put(LONG, "java.lang.Long.valueOf(%s)");
+    SCALAR_CONVERSIONS.put(DOUBLE, "java.lang.Double.valueOf(%s)");
+    SCALAR_CONVERSIONS.put(BOOLEAN, "java.lang.Boolean.valueOf(" + VALUES + ".parseBoolean(%s))");
+    SCALAR_CONVERSIONS.put(DURATION, VALUES + ".duration(%s)");
+
+    SCALAR_PARSERS.put(LONG, "java.lang.Long::valueOf");
+    SCALAR_PARSERS.put(DOUBLE, "java.lang.Double::valueOf");
+    SCALAR_PARSERS.put(BOOLEAN, VALUES + "::parseBoolean");
+    SCALAR_PARSERS.put(DURATION, VALUES + "::duration");
+  }
+
+  private final Set<String> processedInterfaces = new HashSet<>();
+  private final Set<String> loaders = new TreeSet<>();
+  private final Map<String, Integer> loadersPerPackage = new HashMap<>();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    if (roundEnv.processingOver()) {
+      writeServiceFile();
+      return false;
+    }
+
+    TypeElement propertyKey = processingEnv.getElementUtils().getTypeElement(PROPERTY_KEY_ANNOTATION);
+    if (propertyKey == null) {
+      return false;
+    }
+    Set<TypeElement> configInterfaces = new LinkedHashSet<>();
+    for (Element method : roundEnv.getElementsAnnotatedWith(propertyKey)) {
+      Element enclosing = method.getEnclosingElement();
+      if (enclosing.getKind() != ElementKind.INTERFACE) {
+        error(String.format(NOT_INTERFACE_FORMAT_MSG, method.getSimpleName()), method);
+      } else if (processedInterfaces.add(((TypeElement) enclosing).getQualifiedName().toString())) {
+        configInterfaces.add((TypeElement) enclosing);
+      }
+    }
+
+    Map<PackageElement, List<TypeElement>> implemented = new LinkedHashMap<>();
+    for (TypeElement configInterface : configInterfaces) {
+      if (generateImplementation(configInterface)) {
+        implemented
+          .computeIfAbsent(processingEnv.getElementUtils().getPackageOf(configInterface), p -> new ArrayList<>())
+          .add(configInterface);
+      }
+    }
+    implemented.forEach(this::generateLoader);
+    return false;
+  }
+
+  private boolean generateImplementation(final TypeElement configInterface) {
+    if (configInterface.getModifiers().contains(Modifier.PRIVATE)
+      || !configInterface.getTypeParameters().isEmpty()) {
+      //could not be implemented by a top level class, reflection is used for it
+      return false;
+    }
+    List<ConfigMethod> methods = new ArrayList<>();
+    boolean valid = true;
+    boolean groups = false;
+    for (ExecutableElement method : ElementFilter.methodsIn(
+      processingEnv.getElementUtils().getAllMembers(configInterface))) {
+      if (method.getEnclosingElement().getKind() != ElementKind.INTERFACE) {
+        continue;
+      }
+      Element errorElement = method.getEnclosingElement().equals(configInterface) ? method : configInterface;
+      String name = method.getSimpleName().toString();
+      if (!method.getModifiers().contains(Modifier.ABSTRACT)) {
+        error(String.format(FileConfig.UNSUPPORTED_METHOD_FORMAT_MSG, name), errorElement);
+        valid = false;
+        continue;
+      }
+      if (isPropertyGroup(method)) {
+        groups = true;
+        continue;
+      }
+      Map<String, Object> propertyKey = propertyKey(method);
+      if (propertyKey == null) {
+        error(String.format(FileConfig.WRONG_METHOD_DECLARATION_FORMAT_MSG, name), errorElement);
+        valid = false;
+        continue;
+      }
+      ConfigMethod configMethod = configMethod(method, propertyKey);
+      if (configMethod == null) {
+        error(String.format(FileConfig.UNSUPPORTED_RETURN_TYPE_FORMAT_MSG,
+          processingEnv.getTypeUtils().erasure(method.getReturnType()),
+          name), errorElement);
+        valid = false;
+        continue;
+      }
+      if (methods.stream().anyMatch(added -> added.field.equals(configMethod.field))) {
+        configMethod.field = configMethod.field + methods.size();
+      }
+      methods.add(configMethod);
+    }
+    if (!valid || groups) {
+      //nested config objects are created by reflection, when the config object is created
+      return false;
+    }
+
+    String packageName = processingEnv.getElementUtils().getPackageOf(configInterface).getQualifiedName().toString();
+    String implementation = implementationName(configInterface);
+    try (PrintWriter out = new PrintWriter(sourceWriter(packageName, implementation, configInterface))) {
+      if (!packageName.isEmpty()) {
+        out.printf("package %s;%n%n", packageName);
+      }
+      out.printf("/**%n * Generated by %s for {@link %s}.%n */%n",
+        PropertyKeyProcessor.class.getName(), configInterface.getQualifiedName());
+      out.printf("public final class %s implements %s {%n%n", implementation, configInterface.getQualifiedName());
+      for (ConfigMethod method : methods) {
+        out.printf(method.lazy ? "  private final java.util.function.Supplier<%s> %s;%n" : "  private final %s %s;%n",
+          method.method.getReturnType(), method.field);
+      }
+      out.printf("%n  public %s(java.util.Map<java.lang.String, java.lang.String> properties) {%n", implementation);
+      out.printf("    %s.requireKeys(properties%s);%n", VALUES,
+        methods.stream()
+               .filter(method -> method.required)
+               .map(method -> ", " + literal(method.key))
+               .distinct()
+               .collect(Collectors.joining()));
+      out.printf("    %s.Conversions conversions = new %s.Conversions();%n", VALUES, VALUES);
+      for (ConfigMethod method : methods) {
+        out.printf("    this.%s = conversions.%s(%s, %s, () -> %s);%n", method.field,
+          PRIMITIVE_VALUES.getOrDefault(method.method.getReturnType().getKind(), "value"),
+          literal(method.key), literal(method.method.getSimpleName().toString()), method.conversion);
+      }
+      out.printf("    conversions.validate();%n");
+      out.printf("  }%n");
+      for (ConfigMethod method : methods) {
+        out.printf("%n  @java.lang.Override%n");
+        out.printf("  public %s %s(%s) {%n", method.method.getReturnType(), method.method.getSimpleName(),
+          method.method.getParameters().stream()
+                       .map(parameter -> parameter.asType() + " " + parameter.getSimpleName())
+                       .collect(Collectors.joining(", ")));
+        out.printf(method.lazy ? "    return %s.get();%n" : "    return %s;%n", method.field);
+        out.printf("  }%n");
+      }
+      out.printf("}%n");
+    }
+    return true;
+  }
+
+  private void generateLoader(final PackageElement packageElement, final List<TypeElement> configInterfaces) {
+    String packageName = packageElement.getQualifiedName().toString();
+    int index = loadersPerPackage.merge(packageName, 1, Integer::sum);
+    String loader = index == 1 ? LOADER_NAME : LOADER_NAME + "_" + index;
+    try (PrintWriter out = new PrintWriter(
+      sourceWriter(packageName, loader, configInterfaces.toArray(new Element[0])))) {
+      if (!packageName.isEmpty()) {
+        out.printf("package %s;%n%n", packageName);
+      }
+      out.printf("/**%n * Generated by %s.%n */%n", PropertyKeyProcessor.class.getName());
+      out.printf("public final class %s implements %s {%n%n", loader, ConfigLoader.class.getName());
+      out.printf("  @java.lang.Override%n");
+      out.printf("  public <T> T create(java.lang.Class<T> configInterface, "
+        + "java.util.Map<java.lang.String, java.lang.String> properties) {%n");
+      for (TypeElement configInterface : configInterfaces) {
+        out.printf("    if (configInterface == %s.class) {%n", configInterface.getQualifiedName());
+        out.printf("      return configInterface.cast(new %s(properties));%n", implementationName(configInterface));
+        out.printf("    }%n");
+      }
+      out.printf("    return null;%n");
+      out.printf("  }%n");
+      out.printf("}%n");
+    }
+    loaders.add(packageName.isEmpty() ? loader : packageName + "." + loader);
+  }
+
+  private void writeServiceFile() {
+    if (loaders.isEmpty()) {
+      return;
+    }
+    try {
+      FileObject serviceFile = processingEnv.getFiler()
+        .createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+      try (PrintWriter out = new PrintWriter(serviceFile.openWriter())) {
+        loaders.forEach(out::println);
+      }
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+        "Could not write " + SERVICE_FILE + ": " + e.getMessage());
+    }
+  }
+
+  /**
+   * @return the expression, that converts the property value to the method return type,
+   *         or {@code null} if the return type is not supported
+   */
+  private ConfigMethod configMethod(final ExecutableElement method, final Map<String, Object> propertyKey) {
+    TypeMirror returnType = method.getReturnType();
+    String erasure = processingEnv.getTypeUtils().erasure(returnType).toString();
+    String key = (String) propertyKey.get("value");
+    String value = "properties.get(" + literal(key) + ")";
+    String optionalClass = propertyKey.get("optionalClass").toString();
+    boolean byteSize = (Boolean) propertyKey.get("byteSize");
+
+    if (OPTIONAL.equals(erasure)) {
+      if (byteSize && !LONG.equals(optionalClass)) {
+        return null;
+      } else if (STRING.equals(optionalClass)) {
+        return new ConfigMethod(method, key, false, "java.util.Optional.ofNullable(" + value + ")");
+      } else if (INTEGER.equals(optionalClass)) {
+        return new ConfigMethod(method, key, false, VALUES + ".optionalInteger(" + value + ")");
+      }
+      String parser = byteSize ? VALUES + "::byteSize" : SCALAR_PARSERS.get(optionalClass);
+      return parser == null
+        ? null
+        : new ConfigMethod(method, key, false, VALUES + ".optional(" + value + ", " + parser + ")");
+    } else if (byteSize) {
+      if (returnType.getKind() == TypeKind.LONG) {
+        return new ConfigMethod(method, key, true, VALUES + ".byteSize(" + value + ")");
+      } else if (LONG.equals(erasure)) {
+        return new ConfigMethod(method, key, true, "java.lang.Long.valueOf(" + VALUES + ".byteSize(" + value + "))");
+      }
+      return null;
+    }
+
+    String scalar = returnType.getKind().isPrimitive()
+      ? PRIMITIVE_CONVERSIONS.get(returnType.getKind())
+      : SCALAR_CONVERSIONS.get(erasure);
+    if (scalar != null) {
+      return new ConfigMethod(method, key, true, String.format(scalar, value));
+    } else if (LIST.equals(erasure)) {
+      return new ConfigMethod(method, key, false,
+        immutableCopy("list", value, propertyKey, "itemsSeparator"));
+    } else if (STREAM.equals(erasure) || ITERATOR.equals(erasure)) {
+      return lazyConfigMethod(method, key, erasure, value, propertyKey);
+    } else if (MAP.equals(erasure) || INDEXED_MAP.equals(erasure)) {
+      boolean indexed = INDEXED_MAP.equals(erasure);
+      List<? extends TypeMirror> typeArguments = ((DeclaredType) returnType).getTypeArguments();
+      if (typeArguments.size() != (indexed ? 1 : 2)) {
+        return null;
+      }
+      String conversion = mapConversion(typeArguments.get(typeArguments.size() - 1), value, propertyKey);
+      if (conversion != null) {
+        return new ConfigMethod(method, key, false,
+          indexed ? VALUES + ".indexedMap(" + conversion + ")" : conversion);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return the method, that returns a new stream or iterator of the items on each call,
+   *         its field keeps the supplier of them, or {@code null} if the item type is not supported
+   */
+  private ConfigMethod lazyConfigMethod(
+    final ExecutableElement method,
+    final String key,
+    final String erasure,
+    final String value,
+    final Map<String, Object> propertyKey) {
+    List<? extends TypeMirror> typeArguments = ((DeclaredType) method.getReturnType()).getTypeArguments();
+    if (typeArguments.size() != 1) {
+      return null;
+    }
+    String itemType = typeArguments.get(0).toString().replace(" ", "");
+    String itemsSeparator = ", " + literal((String) propertyKey.get("itemsSeparator"));
+    String conversion = null;
+    if (STRING.equals(itemType)) {
+      conversion = VALUES + (STREAM.equals(erasure) ? ".stream(" : ".iterator(") + value + itemsSeparator + ")";
+    } else if (STREAM.equals(erasure) && ENTRY_OF_STRINGS.equals(itemType)) {
+      conversion = VALUES + ".entryStream(" + value + itemsSeparator
+        + ", " + literal((String) propertyKey.get("keyValueSeparator")) + ")";
+    }
+    if (conversion == null) {
+      return null;
+    }
+    ConfigMethod configMethod = new ConfigMethod(method, key, false, conversion);
+    configMethod.lazy = true;
+    return configMethod;
+  }
+
+  /**
+   * @return the expression, that converts the property value to a map with the value type,
+   *         or {@code null} if the value type is not supported
+   */
+  private String mapConversion(
+    final TypeMirror valueType,
+    final String value,
+    final Map<String, Object> propertyKey) {
+    String valueTypeName = valueType.toString().replace(" ", "");
+    if (STRING.equalsIgnoreCase(valueTypeName)) {
+      return immutableCopy("map", value, propertyKey,
+        "itemsSeparator", "keyValueSeparator");
+    } else if (valueTypeName.startsWith(LIST)) {
+      return immutableCopy("mapOfLists", value, propertyKey,
+        "itemsSeparator", "keyValueSeparator", "mapsListItemsSeparator");
+    } else if (MAP_OF_STRINGS.equals(valueTypeName)) {
+      return immutableCopy("mapOfMaps", value, propertyKey,
+        "itemsSeparator", "keyValueSeparator", "mapsListItemsSeparator", "mapsOfMapsItemsSeparator");
+    } else if (MAP_OF_LISTS.equals(valueTypeName)) {
+      return immutableCopy("mapOfMapsOfLists", value, propertyKey,
+        "itemsSeparator", "keyValueSeparator", "mapsListItemsSeparator", "mapsOfMapsItemsSeparator",
+        "mapsOfMapsOfListsItemsSeparator");
+    }
+    return null;
+  }
+
+  private String immutableCopy(
+    final String conversion,
+    final String value,
+    final Map<String, Object> propertyKey,
+    final String... separators) {
+    StringBuilder expression = new StringBuilder(VALUES)
+      .append(".immutableCopy(")
+      .append(VALUES).append('.').append(conversion).append('(').append(value);
+    for (String separator : separators) {
+      expression.append(", ").append(literal((String) propertyKey.get(separator)));
+    }
+    return expression.append("))").toString();
+  }
+
+  /**
+   * @return {@link PropertyKey} attributes, including defaults,
+   *         or {@code null} if the method is not annotated
+   */
+  private Map<String, Object> propertyKey(final ExecutableElement method) {
+    for (AnnotationMirror annotation : method.getAnnotationMirrors()) {
+      if (((TypeElement) annotation.getAnnotationType().asElement())
+        .getQualifiedName().contentEquals(PROPERTY_KEY_ANNOTATION)) {
+        Map<String, Object> attributes = new HashMap<>();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> attribute
+          : processingEnv.getElementUtils().getElementValuesWithDefaults(annotation).entrySet()) {
+          attributes.put(attribute.getKey().getSimpleName().toString(), attribute.getValue().getValue());
+        }
+        return attributes;
+      }
+    }
+    return null;
+  }
+
+  private boolean isPropertyGroup(final ExecutableElement method) {
+    return method.getAnnotationMirrors().stream()
+                 .anyMatch(annotation -> ((TypeElement) annotation.getAnnotationType().asElement())
+                   .getQualifiedName().contentEquals(PROPERTY_GROUP_ANNOTATION));
+  }
+
+  private Writer sourceWriter(final String packageName, final String simpleName, final Element... originatingElements) {
+    try {
+      return processingEnv.getFiler()
+        .createSourceFile(packageName.isEmpty() ? simpleName : packageName + "." + simpleName, originatingElements)
+        .openWriter();
+    } catch (IOException e) {
+      throw new IllegalStateException("Could not generate: " + simpleName, e);
+    }
+  }
+
+  private String implementationName(final TypeElement configInterface) {
+    StringBuilder name = new StringBuilder(configInterface.getSimpleName());
+    for (Element enclosing = configInterface.getEnclosingElement();
+         enclosing.getKind() != ElementKind.PACKAGE;
+         enclosing = enclosing.getEnclosingElement()) {
+      name.insert(0, enclosing.getSimpleName() + "_");
+    }
+    return IMPLEMENTATION_PREFIX + name;
+  }
+
+  private String literal(final String value) {
+    return processingEnv.getElementUtils().getConstantExpression(value);
+  }
+
+  private void error(final String message, final Element element) {
+    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+  }
+
+  private static class ConfigMethod {
+
+    final ExecutableElement method;
+    final String key;
+    final boolean required;
+    final String conversion;
+    String field;
+
+    /**
+     * When set, the field keeps a supplier of the value, the value is created on each call.
+     */
+    boolean lazy;
+
+    ConfigMethod(ExecutableElement method, String key, boolean required, String conversion) {
+      this.method = method;
+      this.key = key;
+      this.required = required;
+      this.conversion = conversion;
+      this.field = method.getSimpleName().toString();
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package com.savdev.commons.config.processor;
+
+import com.savdev.commons.config.IndexedMap;
+import com.savdev.commons.config.PropertyKey;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface CompiledConfig {
+
+  String STRING_PROP_KEY1 = "test.key1";
+  String STRING_PROP_KEY2 = "test.key2";
+  String INT_PROP_KEY4 = "test.key4";
+  String LIST_ITEMS_KEY = "test.key.list";
+  String LIST_ITEMS_KEY_CUSTOM = "test.key.list.custom";
+  String MAP_ITEMS_KEY = "test.key.map";
+  String MAP_ITEMS_KEY_CUSTOM_SEPARATOR = "test.key.custom.map";
+  String NOT_EXISTING_PROP_KEY = "test.not.existing.key";
+  String MAP_LIST_ITEMS_KEY = "test.key.map.of.lists";
+  String MAP_OF_MAPS_KEY = "test.key.map.of.maps";
+  String MAP_OF_MAPS_OF_LISTS_KEY = "test.key.map.of.maps.of.lists";
+  String LONG_PROP_KEY = "test.key.long";
+  String DOUBLE_PROP_KEY = "test.key.double";
+  String BOOLEAN_PROP_KEY = "test.key.boolean";
+  String DURATION_PROP_KEY = "test.key.duration";
+  String BYTE_SIZE_PROP_KEY = "test.key.byte.size";
+
+  @PropertyKey(STRING_PROP_KEY1)
+  String someProperty1();
+
+  @PropertyKey(STRING_PROP_KEY2)
+  String someProperty2();
+
+  @PropertyKey(NOT_EXISTING_PROP_KEY)
+  Optional<String> notExistingPropertyAsOptionalString();
+
+  @PropertyKey(STRING_PROP_KEY2)
+  Optional<String> someProperty2ViaOptional();
+
+  @PropertyKey(INT_PROP_KEY4)
+  int intProperty();
+
+  @PropertyKey(INT_PROP_KEY4)
+  Integer integerProperty();
+
+  @PropertyKey(value = INT_PROP_KEY4, optionalClass = Integer.class)
+  Optional<Integer> intProperty2ViaOptional();
+
+  @PropertyKey(LIST_ITEMS_KEY)
+  List<String> listDefaultSeparator();
+
+  @PropertyKey(value = LIST_ITEMS_KEY_CUSTOM, itemsSeparator = ",")
+  List<String> listCustomSeparator();
+
+  @PropertyKey(NOT_EXISTING_PROP_KEY)
+  List<String> emptyList();
+
+  @PropertyKey(MAP_ITEMS_KEY)
+  Map<String, String> defaultMap();
+
+  @PropertyKey(value = MAP_ITEMS_KEY_CUSTOM_SEPARATOR, keyValueSeparator = "&")
+  Map<String, String> customMap();
+
+  @PropertyKey(NOT_EXISTING_PROP_KEY)
+  Map<String, String> notExistingMap();
+
+  @PropertyKey(MAP_LIST_ITEMS_KEY)
+  Map<String, List<String>> defaultMapOfLists();
+
+  @PropertyKey(MAP_OF_MAPS_KEY)
+  Map<String, Map<String, String>> defaultMapOfMaps();
+
+  @PropertyKey(MAP_OF_MAPS_OF_LISTS_KEY)
+  Map<String, Map<String, List<String>>> defaultMapOfMapsOfLists();
+
+  @PropertyKey(MAP_LIST_ITEMS_KEY)
+  IndexedMap<List<String>> indexedMapOfLists();
+
+  @PropertyKey(LONG_PROP_KEY)
+  long longProperty();
+
+  @PropertyKey(DOUBLE_PROP_KEY)
+  Double doubleObjectProperty();
+
+  @PropertyKey(BOOLEAN_PROP_KEY)
+  boolean booleanProperty();
+
+  @PropertyKey(DURATION_PROP_KEY)
+  Duration durationProperty();
+
+  @PropertyKey(value = BYTE_SIZE_PROP_KEY, byteSize = true)
+  long byteSizeProperty();
+
+  @PropertyKey(value = BYTE_SIZE_PROP_KEY, byteSize = true, optionalClass = Long.class)
+  Optional<Long> byteSizeViaOptional();
+
+  @PropertyKey(value = DURATION_PROP_KEY, optionalClass = Duration.class)
+  Optional<Duration> durationViaOptional();
+
+  @PropertyKey(LIST_ITEMS_KEY)
+  Stream<String> listStream();
+
+  @PropertyKey(value = LIST_ITEMS_KEY_CUSTOM, itemsSeparator = ",")
+  Iterator<String> listIterator();
+
+  @PropertyKey(MAP_ITEMS_KEY)
+  Stream<Map.Entry<String, String>> mapEntries();
+}
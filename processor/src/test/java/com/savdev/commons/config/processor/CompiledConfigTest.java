@@ -0,0 +1,107 @@
+package com.savdev.commons.config.processor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Properties;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.savdev.commons.config.Configs;
+import com.savdev.commons.config.FileConfig;
+import com.savdev.commons.config.PropertyValues;
+
+public class CompiledConfigTest {
+
+  private static final String SINGLE_STRING_PROPERTY = "/configs/test.config.properties";
+
+  @Test
+  public void testGeneratedImplementation(){
+    CompiledConfig config = Configs.immutableFileConfig(testInputStream())
+      .proxy(CompiledConfig.class);
+    Assert.assertFalse(Proxy.isProxyClass(config.getClass()));
+    Assert.assertEquals(
+      PropertyKeyProcessor.IMPLEMENTATION_PREFIX + CompiledConfig.class.getSimpleName(),
+      config.getClass().getSimpleName());
+  }
+
+  @Test
+  public void testLazyFactoryUsesProxy(){
+    CompiledConfig config = Configs.fileConfig(testInputStream())
+      .proxy(CompiledConfig.class);
+    Assert.assertTrue(Proxy.isProxyClass(config.getClass()));
+  }
+
+  @Test
+  public void testConversionErrorsAreReportedTogether() throws IOException {
+    Properties properties = new Properties();
+    try (InputStream inputStream = testInputStream()) {
+      properties.load(inputStream);
+    }
+    properties.setProperty("test.key4", "not.int");
+    properties.setProperty("test.key.boolean", "not.boolean");
+    ByteArrayOutputStream file = new ByteArrayOutputStream();
+    properties.store(file, null);
+    try {
+      Configs.immutableFileConfig(new ByteArrayInputStream(file.toByteArray())).proxy(CompiledConfig.class);
+      Assert.fail();
+    } catch (IllegalStateException e) {
+      Assert.assertTrue(e.getMessage().startsWith(String.format(FileConfig.WRONG_PROXY_CONFIG_FORMAT_MSG, "")));
+      Assert.assertTrue(e.getMessage().contains(String.format(FileConfig.WRONG_PROPERTY_VALUE_FORMAT_MSG,
+        "test.key4", "intProperty", "For input string: \"not.int\"")));
+      Assert.assertTrue(e.getMessage().contains(String.format(FileConfig.WRONG_PROPERTY_VALUE_FORMAT_MSG,
+        "test.key.boolean", "booleanProperty", String.format(PropertyValues.WRONG_BOOLEAN_FORMAT_MSG, "not.boolean"))));
+    }
+  }
+
+  @Test
+  public void testValues(){
+    CompiledConfig config = Configs.immutableFileConfig(testInputStream())
+      .proxy(CompiledConfig.class);
+    Assert.assertEquals("test.value1", config.someProperty1());
+    Assert.assertEquals("test.value2", config.someProperty2ViaOptional().get());
+    Assert.assertFalse(config.notExistingPropertyAsOptionalString().isPresent());
+    Assert.assertEquals(23, config.intProperty());
+    Assert.assertEquals((Integer) 23, config.intProperty2ViaOptional().get());
+    Assert.assertEquals(Lists.newArrayList("item1", "item2", "item3"), config.listCustomSeparator());
+    Assert.assertTrue(config.emptyList().isEmpty());
+    Assert.assertEquals(
+      ImmutableMap.of("key1", "value1", "key2", "value2"),
+      config.customMap());
+    Assert.assertEquals(
+      ImmutableMap.of(
+        "key1", ImmutableMap.of(
+          "subkey1", Lists.newArrayList("value1", "value2", "value3"),
+          "subkey2", Lists.newArrayList("value2_1", "value2_2")),
+        "key2", ImmutableMap.of(
+          "subkey3", Collections.singletonList("value2")),
+        "key3", ImmutableMap.of(
+          "subkey4", Lists.newArrayList("value4_1", "value4_2"),
+          "subkey5", Collections.singletonList("value5"))),
+      config.defaultMapOfMapsOfLists());
+    Assert.assertEquals(Lists.newArrayList("key1", "key2"), config.indexedMapOfLists().keysOf("value2"));
+    Assert.assertEquals(9_000_000_000L, config.longProperty());
+    Assert.assertEquals((Double) 0.75, config.doubleObjectProperty());
+    Assert.assertTrue(config.booleanProperty());
+    Assert.assertEquals(Duration.ofSeconds(30), config.durationProperty());
+    Assert.assertEquals(64L << 20, config.byteSizeProperty());
+    Assert.assertEquals(Optional.of(64L << 20), config.byteSizeViaOptional());
+    Assert.assertEquals(Optional.of(Duration.ofSeconds(30)), config.durationViaOptional());
+    Assert.assertEquals(Optional.of("item2"), config.listStream().skip(1).findFirst());
+    Assert.assertEquals(Lists.newArrayList("item1", "item2", "item3"), Lists.newArrayList(config.listIterator()));
+    Assert.assertEquals("value3", config.mapEntries().filter(entry -> entry.getKey().equals("key3"))
+                                        .findFirst().get().getValue());
+  }
+
+  private InputStream testInputStream() {
+    return CompiledConfigTest.class.getResourceAsStream(SINGLE_STRING_PROPERTY);
+  }
+}
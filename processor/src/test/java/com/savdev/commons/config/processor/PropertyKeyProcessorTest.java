@@ -0,0 +1,123 @@
+package com.savdev.commons.config.processor;
+
+import java.io.File;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.savdev.commons.config.FileConfig;
+
+public class PropertyKeyProcessorTest {
+
+  @Test
+  public void testUnsupportedReturnType() throws Exception {
+    List<String> errors = compile("UnsupportedReturnTypeConfig",
+      "public interface UnsupportedReturnTypeConfig {\n"
+        + "  @com.savdev.commons.config.PropertyKey(\"test.key1\")\n"
+        + "  java.util.Collections unsupportedReturnType();\n"
+        + "}\n");
+    Assert.assertEquals(
+      Collections.singletonList(String.format(FileConfig.UNSUPPORTED_RETURN_TYPE_FORMAT_MSG,
+        "java.util.Collections", "unsupportedReturnType")),
+      errors);
+  }
+
+  @Test
+  public void testWrongMethodDeclaration() throws Exception {
+    List<String> errors = compile("WrongDeclarationConfig",
+      "public interface WrongDeclarationConfig {\n"
+        + "  @com.savdev.commons.config.PropertyKey(\"test.key1\")\n"
+        + "  String someProperty1();\n"
+        + "  String notAnnotated();\n"
+        + "  default String someDefault() { return \"default.value\"; }\n"
+        + "}\n");
+    Assert.assertEquals(
+      Arrays.asList(
+        String.format(FileConfig.WRONG_METHOD_DECLARATION_FORMAT_MSG, "notAnnotated"),
+        String.format(FileConfig.UNSUPPORTED_METHOD_FORMAT_MSG, "someDefault")),
+      errors);
+  }
+
+  @Test
+  public void testPropertyGroupsAreNotImplemented() throws Exception {
+    List<String> errors = compileValid("GroupConfig",
+      "public interface GroupConfig {\n"
+        + "  @com.savdev.commons.config.PropertyKey(\"test.key1\")\n"
+        + "  String someProperty1();\n"
+        + "  @com.savdev.commons.config.PropertyGroup(\"test.shards\")\n"
+        + "  java.util.Map<String, Shard> shards();\n"
+        + "  interface Shard {\n"
+        + "    @com.savdev.commons.config.PropertyKey(\"url\")\n"
+        + "    String url();\n"
+        + "  }\n"
+        + "}\n");
+    Assert.assertEquals(Collections.emptyList(), errors);
+  }
+
+  @Test
+  public void testPropertyKeysOfGroupConfigsAreValidated() throws Exception {
+    List<String> errors = compile("WrongGroupConfig",
+      "public interface WrongGroupConfig {\n"
+        + "  @com.savdev.commons.config.PropertyKey(\"test.key1\")\n"
+        + "  java.util.Collections unsupportedReturnType();\n"
+        + "  @com.savdev.commons.config.PropertyGroup(\"test.shards\")\n"
+        + "  java.util.Map<String, Shard> shards();\n"
+        + "  interface Shard {\n"
+        + "    @com.savdev.commons.config.PropertyKey(\"url\")\n"
+        + "    String url();\n"
+        + "  }\n"
+        + "}\n");
+    Assert.assertEquals(
+      Collections.singletonList(String.format(FileConfig.UNSUPPORTED_RETURN_TYPE_FORMAT_MSG,
+        "java.util.Collections", "unsupportedReturnType")),
+      errors);
+  }
+
+  /**
+   * @return errors of the compilation, that must fail
+   */
+  private List<String> compile(final String className, final String source) throws Exception {
+    return compile(className, source, false);
+  }
+
+  private List<String> compileValid(final String className, final String source) throws Exception {
+    return compile(className, source, true);
+  }
+
+  private List<String> compile(final String className, final String source, final boolean valid) throws Exception {
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    File output = Files.createTempDirectory("processor").toFile();
+    JavaFileObject sourceFile = new SimpleJavaFileObject(
+      URI.create("string:///" + className + JavaFileObject.Kind.SOURCE.extension),
+      JavaFileObject.Kind.SOURCE) {
+      @Override
+      public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+        return source;
+      }
+    };
+    JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics,
+      Arrays.asList("-classpath", System.getProperty("java.class.path"), "-d", output.getAbsolutePath()),
+      null,
+      Collections.singletonList(sourceFile));
+    task.setProcessors(Collections.singletonList(new PropertyKeyProcessor()));
+    Assert.assertEquals(valid, task.call());
+    return diagnostics.getDiagnostics().stream()
+                      .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                      .map(diagnostic -> diagnostic.getMessage(null))
+                      .collect(Collectors.toList());
+  }
+}